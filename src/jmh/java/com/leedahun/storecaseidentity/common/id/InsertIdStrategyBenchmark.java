@@ -0,0 +1,125 @@
+package com.leedahun.storecaseidentity.common.id;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * IDENTITY 와 Tsid 의 insert 처리량(행/ms)을 H2(MySQL 모드)에서 비교한다.
+ * <ul>
+ *     <li>identity: Hibernate 가 IDENTITY 엔티티를 저장하듯 한 행씩 실행하고 생성된 키를 읽는다</li>
+ *     <li>tsid: id 를 미리 정해 hibernate.jdbc.batch_size 만큼 묶어 실행한다</li>
+ * </ul>
+ * 네트워크 왕복이 없는 인메모리 DB 이므로 실제 MySQL 에서의 차이는 이보다 크다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InsertIdStrategyBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final String IDENTITY_INSERT = "INSERT INTO bench_user (email, password, name) VALUES (?, ?, ?)";
+    private static final String TSID_INSERT = "INSERT INTO bench_user (id, email, password, name) VALUES (?, ?, ?, ?)";
+
+    @Param({"50"})
+    private int batchSize;
+
+    private Connection connection;
+    private long sequence;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:insert_bench;MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS bench_user (
+                        id       BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                        email    VARCHAR(120),
+                        password VARCHAR(255),
+                        name     VARCHAR(60),
+                        CONSTRAINT ux_bench_user_email UNIQUE (email)
+                    )
+                    """);
+        }
+        connection.commit();
+    }
+
+    // 테이블이 커지며 인덱스 비용이 달라지지 않도록 iteration 마다 비운다
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE bench_user");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement ps = connection.prepareStatement(IDENTITY_INSERT, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(ps, 1, sequence++);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long tsid() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement ps = connection.prepareStatement(TSID_INSERT)) {
+            for (int i = 0; i < ROWS; i++) {
+                lastId = Tsid.next();
+                ps.setLong(1, lastId);
+                bind(ps, 2, sequence++);
+                ps.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long generateTsid() {
+        return Tsid.next();
+    }
+
+    private static void bind(PreparedStatement ps, int from, long n) throws SQLException {
+        ps.setString(from, "user" + n + "@bench.com");
+        ps.setString(from + 1, "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchma");
+        ps.setString(from + 2, "user" + n);
+    }
+}
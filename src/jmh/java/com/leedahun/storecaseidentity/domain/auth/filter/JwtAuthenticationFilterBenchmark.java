@@ -0,0 +1,79 @@
+package com.leedahun.storecaseidentity.domain.auth.filter;
+
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import com.leedahun.storecaseidentity.domain.auth.entity.Role;
+import com.leedahun.storecaseidentity.domain.auth.util.AccessTokenDenylist;
+import com.leedahun.storecaseidentity.domain.auth.util.JwtSigningKeys;
+import com.leedahun.storecaseidentity.domain.auth.util.JwtUtil;
+import com.leedahun.storecaseidentity.domain.auth.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 같은 access token 으로 들어온 요청(캐시 적중)과 처음 보는 토큰(서명 검증 + claim 디코딩)의 필터 비용을 비교한다.
+ * 캐시 미스는 캐시 크기를 0 으로 두어 매번 JwtUtil 검증을 거치게 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+
+    private JwtAuthenticationFilter cachingFilter;
+    private JwtAuthenticationFilter verifyingFilter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpirationTime(600_000L);
+        jwtProperties.setRefreshExpirationTime(1_209_600_000L);
+
+        Clock clock = Clock.systemDefaultZone();
+        JwtUtil jwtUtil = new JwtUtil(jwtProperties, clock,
+                new AccessTokenDenylist(jwtProperties, clock, 10_000, 0.01),
+                new JwtSigningKeys(jwtProperties, clock, new StandardEnvironment()));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        cachingFilter = new JwtAuthenticationFilter(new VerifiedTokenCache(jwtUtil, clock, meterRegistry, 10_000));
+        verifyingFilter = new JwtAuthenticationFilter(new VerifiedTokenCache(jwtUtil, clock, meterRegistry, 0));
+        authorization = "Bearer " + jwtUtil.createAccessToken(1L, Role.USER, "benchmark-session");
+    }
+
+    @Benchmark
+    public MockFilterChain cacheHit() throws ServletException, IOException {
+        return filter(cachingFilter);
+    }
+
+    @Benchmark
+    public MockFilterChain cacheMiss() throws ServletException, IOException {
+        return filter(verifyingFilter);
+    }
+
+    private MockFilterChain filter(JwtAuthenticationFilter filter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/secure");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+        return chain;
+    }
+}
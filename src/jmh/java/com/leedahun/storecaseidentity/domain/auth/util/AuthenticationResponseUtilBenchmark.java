@@ -0,0 +1,24 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AuthenticationResponseUtilBenchmark {
+
+    @Benchmark
+    public MockHttpServletResponse authenticateFail() throws IOException, ServletException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AuthenticationResponseUtil.authenticateFail(response, HttpStatus.UNAUTHORIZED, ErrorMessage.UNAUTHORIZED.getMessage());
+        return response;
+    }
+}
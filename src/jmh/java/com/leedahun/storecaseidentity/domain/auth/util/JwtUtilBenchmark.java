@@ -0,0 +1,88 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import com.leedahun.storecaseidentity.domain.auth.constant.JwtConstants;
+import com.leedahun.storecaseidentity.domain.auth.dto.LoginUser;
+import com.leedahun.storecaseidentity.domain.auth.entity.Role;
+import java.time.Clock;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * 요청마다 Algorithm/JWTVerifier 를 생성하던 기존 방식과 JwtUtil 의 캐시된 서명키를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+
+    private JwtUtil jwtUtil;
+    private AccessTokenDenylist accessTokenDenylist;
+    private String token;
+    private String tokenId;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpirationTime(600_000L);
+        jwtProperties.setRefreshExpirationTime(1_209_600_000L);
+
+        // 폐기된 토큰이 쌓인 상태에서 정상 토큰 조회가 필터에서 끝나는지 본다
+        accessTokenDenylist = new AccessTokenDenylist(jwtProperties, Clock.systemDefaultZone(), 10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            accessTokenDenylist.revoke(UUID.randomUUID().toString(), System.currentTimeMillis() + 600_000L);
+        }
+
+        jwtUtil = new JwtUtil(jwtProperties, Clock.systemDefaultZone(), accessTokenDenylist,
+                new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), new StandardEnvironment()));
+        token = jwtUtil.createAccessToken(1L, Role.USER, UUID.randomUUID().toString());
+        tokenId = JWT.decode(token).getId();
+    }
+
+    @Benchmark
+    public String signPerCallAlgorithm() {
+        return JWT.create()
+                .withSubject(JwtConstants.CLAIM_SUBJECT)
+                .withExpiresAt(new Date(System.currentTimeMillis() + 600_000L))
+                .withClaim(JwtConstants.CLAIM_ID, 1L)
+                .withClaim(JwtConstants.CLAIM_ROLE, Role.USER.name())
+                .sign(Algorithm.HMAC512(SECRET));
+    }
+
+    @Benchmark
+    public String signCachedAlgorithm() {
+        return jwtUtil.createAccessToken(1L, Role.USER, "benchmark-session");
+    }
+
+    @Benchmark
+    public DecodedJWT verifyPerCallVerifier() {
+        return JWT.require(Algorithm.HMAC512(SECRET))
+                .build()
+                .verify(token);
+    }
+
+    @Benchmark
+    public LoginUser verifyCachedVerifier() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public boolean denylistLookup() {
+        return accessTokenDenylist.isRevoked(tokenId);
+    }
+}
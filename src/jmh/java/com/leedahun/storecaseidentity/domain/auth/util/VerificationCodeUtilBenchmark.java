@@ -0,0 +1,17 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VerificationCodeUtilBenchmark {
+
+    @Benchmark
+    public String generateEmailVerificationCode() {
+        return VerificationCodeUtil.generateEmailVerificationCode();
+    }
+}
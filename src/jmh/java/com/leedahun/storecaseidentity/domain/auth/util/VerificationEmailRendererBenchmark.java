@@ -0,0 +1,77 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * spring.thymeleaf 설정(cache: false / true)으로 매번 렌더링하는 방식과 VerificationEmailRenderer 를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VerificationEmailRendererBenchmark {
+
+    private static final String EMAIL = "user@test.com";
+    private static final String CODE = "123456";
+
+    private SpringTemplateEngine uncachedTemplateEngine;
+    private SpringTemplateEngine cachedTemplateEngine;
+    private VerificationEmailRenderer verificationEmailRenderer;
+
+    @Setup
+    public void setUp() {
+        uncachedTemplateEngine = templateEngine(false);
+        cachedTemplateEngine = templateEngine(true);
+        verificationEmailRenderer = new VerificationEmailRenderer(Clock.systemDefaultZone());
+    }
+
+    private static SpringTemplateEngine templateEngine(boolean cacheable) {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(cacheable);
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        return templateEngine;
+    }
+
+    private static Context context() {
+        Context context = new Context();
+        context.setVariable("brandName", "Store Case");
+        context.setVariable("email", EMAIL);
+        context.setVariable("code", CODE);
+        context.setVariable("expiresMinutes", 5);
+        context.setVariable("year", Year.now().getValue());
+        return context;
+    }
+
+    @Benchmark
+    public String thymeleafUncached() {
+        return uncachedTemplateEngine.process("email/verification", context());
+    }
+
+    @Benchmark
+    public String thymeleafCached() {
+        return cachedTemplateEngine.process("email/verification", context());
+    }
+
+    @Benchmark
+    public String preRendered() {
+        return verificationEmailRenderer.render(EMAIL, CODE, 5);
+    }
+}
@@ -0,0 +1,15 @@
+package com.leedahun.storecaseidentity.common.error.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+// 응답에 Retry-After 헤더를 함께 내려야 하는 예외
+@Getter
+public abstract class RetryAfterException extends CustomException {
+    private final long retryAfterSeconds;
+
+    public RetryAfterException(String message, HttpStatus status, long retryAfterSeconds) {
+        super(message, status);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,9 +1,11 @@
 package com.leedahun.storecaseidentity.common.error.handler;
 
 import com.leedahun.storecaseidentity.common.error.exception.CustomException;
+import com.leedahun.storecaseidentity.common.error.exception.RetryAfterException;
 import com.leedahun.storecaseidentity.common.message.ErrorMessage;
 import com.leedahun.storecaseidentity.common.response.HttpResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,6 +22,14 @@ public class GlobalExceptionHandler {
                 .body(new HttpResponse(e.getStatus(), e.getMessage(), null));
     }
 
+    @ExceptionHandler(RetryAfterException.class)
+    public ResponseEntity<?> retryAfterExceptionHandler(RetryAfterException e) {
+        return ResponseEntity
+                .status(e.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new HttpResponse(e.getStatus(), e.getMessage(), null));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<?> illegalExceptionHandler(IllegalArgumentException e) {
         return ResponseEntity
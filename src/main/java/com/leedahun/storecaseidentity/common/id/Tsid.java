@@ -0,0 +1,73 @@
+package com.leedahun.storecaseidentity.common.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순으로 정렬되는 53 비트 id (TSID) 를 DB 왕복 없이 만든다.
+ * <pre>
+ * | 41 bit: EPOCH 이후 밀리초 | 4 bit: node | 8 bit: 같은 밀리초 안의 순번 |
+ * </pre>
+ * JavaScript 의 Number.MAX_SAFE_INTEGER (2^53 - 1) 를 넘지 않도록 53 비트로 제한하므로
+ * 응답의 id 를 그대로 숫자로 내보내도 정밀도가 깨지지 않는다.
+ * <p>
+ * 같은 DB 를 쓰는 인스턴스는 서로 다른 node 를 가져야 id 가 겹치지 않는다. node 는 IdGeneratorConfig 가 기동 시 설정하며,
+ * 설정 전에는 단일 인스턴스(테스트, 벤치마크)용으로 0 을 쓴다.
+ * 시계가 뒤로 가거나 한 밀리초의 순번을 다 쓰면 마지막 시각을 1ms 씩 앞당겨 단조 증가를 유지한다.
+ */
+public final class Tsid {
+
+    public static final int NODE_BITS = 4;
+    public static final int SEQUENCE_BITS = 8;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    // 2024-01-01T00:00:00Z, 41 비트로 약 69년
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIME_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private static volatile int node = 0;
+
+    // (EPOCH 이후 밀리초 << SEQUENCE_BITS) | 순번
+    private static final AtomicLong last = new AtomicLong();
+
+    private Tsid() {
+    }
+
+    public static void configureNode(int node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("TSID node must be between 0 and " + MAX_NODE + ": " + node);
+        }
+        Tsid.node = node;
+    }
+
+    public static long next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static long next(long nowMillis) {
+        long millis = nowMillis - EPOCH_MILLIS;
+        long timeAndSequence;
+        while (true) {
+            long previous = last.get();
+            if (millis > previous >>> SEQUENCE_BITS) {
+                timeAndSequence = millis << SEQUENCE_BITS;
+            } else {
+                // 같은 밀리초거나 시계가 뒤로 갔다면 이어서 센다. 순번이 넘치면 다음 밀리초로 넘어간다
+                timeAndSequence = previous + 1;
+            }
+            if (last.compareAndSet(previous, timeAndSequence)) {
+                break;
+            }
+        }
+
+        long sequence = timeAndSequence & SEQUENCE_MASK;
+        long time = timeAndSequence >>> SEQUENCE_BITS;
+        return (time << TIME_SHIFT) | ((long) node << SEQUENCE_BITS) | sequence;
+    }
+
+    // id 가 만들어진 시각 (EPOCH 기준 밀리초를 epoch millis 로 되돌림)
+    public static long millisOf(long tsid) {
+        return (tsid >>> TIME_SHIFT) + EPOCH_MILLIS;
+    }
+}
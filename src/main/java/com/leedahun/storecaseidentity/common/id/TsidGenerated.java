@@ -0,0 +1,17 @@
+package com.leedahun.storecaseidentity.common.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * persist 시점에 Tsid 로 id 를 채운다. @GeneratedValue 대신 @Id 필드에 붙인다.
+ * IDENTITY 와 달리 insert 전에 id 가 정해지므로 Hibernate 가 insert 를 JDBC batch 로 묶을 수 있다.
+ */
+@IdGeneratorType(TsidIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidGenerated {
+}
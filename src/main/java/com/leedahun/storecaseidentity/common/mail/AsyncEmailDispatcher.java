@@ -0,0 +1,153 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailSendFailedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션이 커밋된 뒤 발송 작업을 큐에 넣고, 전용 워커 풀에서 SMTP 발송을 처리한다.
+ * 발송에 실패하면 backoff 를 두 배씩 늘리며 max_retries 까지 재시도한다.
+ * <p>
+ * 큐가 가득 찼는지는 커밋 전에 확인해 요청을 실패시키고 트랜잭션을 롤백한다. 커밋 이후에는 이미 상태가 반영됐으므로
+ * 그 사이 큐가 차서 넣지 못하더라도 예외를 던지지 않고 rejected 로 집계만 한다. 사용자는 재발송으로 다시 받을 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.mail.dispatch.mode", havingValue = "async")
+public class AsyncEmailDispatcher implements EmailDispatcher {
+
+    private final EmailClient emailClient;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService retryScheduler;
+    private final int maxRetries;
+    private final long backoffMillis;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    public AsyncEmailDispatcher(EmailClient emailClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${spring.mail.dispatch.pool_size:2}") int poolSize,
+                                @Value("${spring.mail.dispatch.queue_capacity:1000}") int queueCapacity,
+                                @Value("${spring.mail.dispatch.max_retries:3}") int maxRetries,
+                                @Value("${spring.mail.dispatch.backoff_millis:1000}") long backoffMillis) {
+        this.emailClient = emailClient;
+        this.maxRetries = maxRetries;
+        this.backoffMillis = backoffMillis;
+        this.workers = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("email-dispatch-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("email-retry-"));
+
+        this.sentCounter = dispatchCounter(meterRegistry, "sent");
+        this.retriedCounter = dispatchCounter(meterRegistry, "retried");
+        this.failedCounter = dispatchCounter(meterRegistry, "failed");
+        this.rejectedCounter = dispatchCounter(meterRegistry, "rejected");
+        new ExecutorServiceMetrics(workers, "email.dispatch", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    private static Counter dispatchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mail.dispatch")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void dispatch(String to, String subject, String text) {
+        EmailMessage message = new EmailMessage(to, subject, text);
+
+        // 롤백된 인증 정보로 메일이 나가지 않도록 커밋 이후에 큐에 넣는다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (workers.getQueue().remainingCapacity() == 0) {
+                rejectedCounter.increment();
+                log.error("Email dispatch queue is full, rejecting before commit. to={}", message.getTo());
+                throw new EmailSendFailedException();
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueueAfterCommit(message);
+                }
+            });
+            return;
+        }
+        enqueue(message);
+    }
+
+    private void enqueue(EmailMessage message) {
+        try {
+            workers.execute(() -> send(message, 0));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.error("Email dispatch queue is full. to={}", message.getTo());
+            throw new EmailSendFailedException();
+        }
+    }
+
+    // afterCommit 에서 던진 예외는 이미 커밋된 요청을 실패로 응답하게 하므로 집계와 로그만 남긴다
+    private void enqueueAfterCommit(EmailMessage message) {
+        try {
+            workers.execute(() -> send(message, 0));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.error("Email dispatch queue filled up after commit, dropping. to={}", message.getTo());
+        }
+    }
+
+    private void send(EmailMessage message, int attempt) {
+        try {
+            emailClient.sendOneEmail(message.getTo(), message.getSubject(), message.getText());
+            sentCounter.increment();
+        } catch (RuntimeException e) {
+            if (attempt >= maxRetries) {
+                failedCounter.increment();
+                log.error("Email dispatch failed after {} retries. to={}", attempt, message.getTo(), e);
+                return;
+            }
+            retriedCounter.increment();
+            long delay = backoffMillis << attempt;
+            log.warn("Email dispatch failed, retrying in {} ms. to={}, attempt={}", delay, message.getTo(), attempt + 1);
+            retryScheduler.schedule(() -> retry(message, attempt + 1), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void retry(EmailMessage message, int attempt) {
+        try {
+            workers.execute(() -> send(message, attempt));
+        } catch (RejectedExecutionException e) {
+            failedCounter.increment();
+            log.error("Email dispatch queue is full, dropping retry. to={}, attempt={}", message.getTo(), attempt);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Email dispatch workers did not finish in time. pending={}", workers.getQueue().size());
+            workers.shutdownNow();
+        }
+    }
+}
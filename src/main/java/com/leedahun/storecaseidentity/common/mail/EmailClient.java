@@ -1,36 +1,110 @@
 package com.leedahun.storecaseidentity.common.mail;
 
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailSendFailedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class EmailClient {
 
+    private static final String SEND_TIMER = "mail.send";
+
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+
+    public EmailClient(JavaMailSender mailSender, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
+    }
 
     public void sendOneEmail(String to, String subject, String text) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
         try {
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage);
-            mimeMessageHelper.setTo(to);
-            mimeMessageHelper.setSubject(subject);
-            mimeMessageHelper.setText(text, true);
+            MimeMessage mimeMessage = createMimeMessage(to, subject, text);
 
             mailSender.send(mimeMessage);
+            result = "success";
 
         } catch (MessagingException e){
             log.error("Error sending email", e);
             throw new EmailSendFailedException();
+        } finally {
+            sample.stop(sendTimer("single", result));
+        }
+    }
+
+    /**
+     * 여러 메일을 하나의 SMTP 연결로 보낸다.
+     * 일부만 실패할 수 있으므로 예외를 던지지 않고 실패한 메일과 원인을 반환한다.
+     */
+    public Map<EmailMessage, Exception> sendBatch(List<EmailMessage> messages) {
+        Map<EmailMessage, Exception> failures = new LinkedHashMap<>();
+        Map<MimeMessage, EmailMessage> messagesByMime = new IdentityHashMap<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>(messages.size());
+
+        for (EmailMessage message : messages) {
+            try {
+                MimeMessage mimeMessage = createMimeMessage(message.getTo(), message.getSubject(), message.getText());
+                messagesByMime.put(mimeMessage, message);
+                mimeMessages.add(mimeMessage);
+            } catch (MessagingException e) {
+                failures.put(message, e);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return failures;
         }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            mailSender.send(mimeMessages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                mimeMessages.forEach(mimeMessage -> failures.put(messagesByMime.get(mimeMessage), e));
+            }
+            e.getFailedMessages().forEach((failed, cause) -> failures.put(messagesByMime.get(failed), cause));
+        } catch (MailException e) {
+            // 연결이나 인증에 실패하면 배치 전체가 실패한다
+            log.error("Error sending email batch. size={}", mimeMessages.size(), e);
+            mimeMessages.forEach(mimeMessage -> failures.put(messagesByMime.get(mimeMessage), e));
+        } finally {
+            sample.stop(sendTimer("batch", failures.isEmpty() ? "success" : "failure"));
+        }
+        return failures;
+    }
+
+    // SMTP 연결, 인증, 전송까지 포함한 시간이다
+    private Timer sendTimer(String operation, String result) {
+        return Timer.builder(SEND_TIMER)
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private MimeMessage createMimeMessage(String to, String subject, String text) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage);
+        mimeMessageHelper.setTo(to);
+        mimeMessageHelper.setSubject(subject);
+        mimeMessageHelper.setText(text, true);
+
+        return mimeMessage;
     }
 
 }
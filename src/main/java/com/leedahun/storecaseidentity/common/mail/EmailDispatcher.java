@@ -0,0 +1,7 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+public interface EmailDispatcher {
+
+    void dispatch(String to, String subject, String text);
+
+}
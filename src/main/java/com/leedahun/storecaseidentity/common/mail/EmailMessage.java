@@ -0,0 +1,14 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString(exclude = "text")
+@AllArgsConstructor
+public class EmailMessage {
+    private final String to;
+    private final String subject;
+    private final String text;
+}
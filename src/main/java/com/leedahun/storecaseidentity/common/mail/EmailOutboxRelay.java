@@ -0,0 +1,187 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import com.leedahun.storecaseidentity.common.mail.entity.EmailOutbox;
+import com.leedahun.storecaseidentity.common.mail.entity.EmailOutboxStatus;
+import com.leedahun.storecaseidentity.common.mail.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 에 쌓인 메일을 batch_size 만큼 가져가 발송한다.
+ * 행을 가져갈 때는 SKIP LOCKED 로 잠그고 다음 시도 시각을 lease 만큼 미뤄 두기 때문에
+ * 여러 인스턴스가 동시에 폴링해도 같은 행을 중복으로 발송하지 않는다.
+ * SMTP 발송은 트랜잭션 밖에서 수행해 DB 커넥션과 행 잠금을 오래 잡고 있지 않는다.
+ * <p>
+ * 메일 한 통의 최악 소요 시간은 SMTP 연결 타임아웃과 응답 타임아웃의 합으로 본다.
+ * 한 번에 가져가는 행 수는 그 시간 안에 lease 가 끝나지 않을 만큼으로 줄이고,
+ * 발송 직전에 남은 lease 로 보낼 수 없는 행은 보내지 않고 되돌려 놓는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.mail.dispatch.mode", havingValue = "outbox", matchIfMissing = true)
+public class EmailOutboxRelay {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailClient emailClient;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final long perMessageMillis;
+    private final int maxRetries;
+    private final long backoffMillis;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxRelay(EmailOutboxRepository emailOutboxRepository,
+                            EmailClient emailClient,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            Clock clock,
+                            @Value("${spring.mail.outbox.batch_size:50}") int batchSize,
+                            @Value("${spring.mail.outbox.lease_millis:60000}") long leaseMillis,
+                            @Value("${spring.mail.dispatch.max_retries:3}") int maxRetries,
+                            @Value("${spring.mail.dispatch.backoff_millis:1000}") long backoffMillis,
+                            @Value("${spring.mail.properties.mail.smtp.connectiontimeout:0}") long smtpConnectionTimeoutMillis,
+                            @Value("${spring.mail.properties.mail.smtp.timeout:0}") long smtpTimeoutMillis) {
+        if (smtpConnectionTimeoutMillis <= 0 || smtpTimeoutMillis <= 0) {
+            throw new IllegalStateException(
+                    "outbox 발송에는 mail.smtp.connectiontimeout 과 mail.smtp.timeout 이 필요합니다. 없으면 lease 안에 발송이 끝난다고 보장할 수 없습니다.");
+        }
+        this.perMessageMillis = smtpConnectionTimeoutMillis + smtpTimeoutMillis;
+        if (leaseMillis < perMessageMillis) {
+            throw new IllegalStateException(String.format(
+                    "spring.mail.outbox.lease_millis(%d) 는 메일 한 통의 최악 소요 시간(%d ms) 이상이어야 합니다.",
+                    leaseMillis, perMessageMillis));
+        }
+        int messagesPerLease = (int) Math.min(Integer.MAX_VALUE, leaseMillis / perMessageMillis);
+        if (batchSize > messagesPerLease) {
+            log.warn("Email outbox batch_size {} exceeds what fits in lease_millis {} (worst case {} ms per message), claiming {} at a time",
+                    batchSize, leaseMillis, perMessageMillis, messagesPerLease);
+        }
+
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailClient = emailClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.batchSize = Math.min(batchSize, messagesPerLease);
+        this.leaseMillis = leaseMillis;
+        this.maxRetries = maxRetries;
+        this.backoffMillis = backoffMillis;
+
+        this.sentCounter = dispatchCounter(meterRegistry, "sent");
+        this.retriedCounter = dispatchCounter(meterRegistry, "retried");
+        this.failedCounter = dispatchCounter(meterRegistry, "failed");
+    }
+
+    private static Counter dispatchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mail.dispatch")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.mail.outbox.poll_interval_millis:1000}")
+    public void relay() {
+        List<EmailOutbox> claimed;
+        do {
+            claimed = claim();
+            if (!claimed.isEmpty()) {
+                send(claimed);
+            }
+        } while (claimed.size() == batchSize);
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    List<EmailOutbox> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<EmailOutbox> outboxes = emailOutboxRepository.findClaimable(
+                    EmailOutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+            LocalDateTime leaseUntil = now.plus(leaseMillis, ChronoUnit.MILLIS);
+            outboxes.forEach(outbox -> outbox.lease(leaseUntil));
+            return outboxes;
+        });
+    }
+
+    // 한 배치를 하나의 SMTP 연결로 보낸다
+    private void send(List<EmailOutbox> outboxes) {
+        outboxes = withinLease(outboxes);
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        Map<EmailMessage, EmailOutbox> outboxesByMessage = new LinkedHashMap<>();
+        outboxes.forEach(outbox -> outboxesByMessage.put(
+                new EmailMessage(outbox.getRecipient(), outbox.getSubject(), outbox.getBody()), outbox));
+
+        Map<EmailMessage, Exception> failures = emailClient.sendBatch(new ArrayList<>(outboxesByMessage.keySet()));
+
+        List<Long> sentIds = new ArrayList<>(outboxes.size());
+        outboxesByMessage.forEach((message, outbox) -> {
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                sentIds.add(outbox.getId());
+                sentCounter.increment();
+                return;
+            }
+            recordFailure(outbox.getId(), failure);
+        });
+
+        if (!sentIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.deleteByIds(sentIds));
+        }
+    }
+
+    // 가져오는 데 시간이 걸려 남은 lease 로 모두 보낼 수 없다면 보낼 수 있는 만큼만 남기고 나머지는 바로 되돌린다
+    private List<EmailOutbox> withinLease(List<EmailOutbox> outboxes) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime leaseUntil = outboxes.get(0).getNextAttemptAt();
+        long remainingMillis = ChronoUnit.MILLIS.between(now, leaseUntil);
+        int sendable = (int) Math.max(0, Math.min(outboxes.size(), remainingMillis / perMessageMillis));
+        if (sendable == outboxes.size()) {
+            return outboxes;
+        }
+        List<Long> releasedIds = outboxes.subList(sendable, outboxes.size()).stream()
+                .map(EmailOutbox::getId)
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.releaseByIds(releasedIds, now));
+        log.warn("Email outbox lease is about to expire, released {} unsent rows", releasedIds.size());
+        return outboxes.subList(0, sendable);
+    }
+
+    private void recordFailure(Long outboxId, Exception cause) {
+        transactionTemplate.executeWithoutResult(status ->
+                emailOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+                    int attempt = outbox.getAttemptCount();
+                    if (attempt >= maxRetries) {
+                        outbox.fail(cause.getMessage());
+                        failedCounter.increment();
+                        log.error("Email outbox failed after {} retries. id={}, to={}", attempt, outboxId, outbox.getRecipient(), cause);
+                        return;
+                    }
+                    long delay = backoffMillis << attempt;
+                    outbox.retryAt(LocalDateTime.now(clock).plus(delay, ChronoUnit.MILLIS), cause.getMessage());
+                    retriedCounter.increment();
+                    log.warn("Email outbox send failed, retrying in {} ms. id={}, attempt={}", delay, outboxId, attempt + 1);
+                }));
+    }
+}
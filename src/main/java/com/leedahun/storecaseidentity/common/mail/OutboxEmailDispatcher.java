@@ -0,0 +1,30 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import com.leedahun.storecaseidentity.common.mail.entity.EmailOutbox;
+import com.leedahun.storecaseidentity.common.mail.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 호출한 서비스의 트랜잭션 안에서 outbox 에 발송 건을 저장한다.
+ * 실제 발송은 EmailOutboxRelay 가 커밋된 행을 가져가 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.mail.dispatch.mode", havingValue = "outbox", matchIfMissing = true)
+public class OutboxEmailDispatcher implements EmailDispatcher {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final Clock clock;
+
+    @Override
+    @Transactional
+    public void dispatch(String to, String subject, String text) {
+        emailOutboxRepository.save(EmailOutbox.pending(to, subject, text, LocalDateTime.now(clock)));
+    }
+}
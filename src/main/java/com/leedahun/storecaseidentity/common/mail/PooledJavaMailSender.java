@@ -0,0 +1,236 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * 인증까지 끝난 SMTP 연결을 반납받아 다음 발송에 다시 사용한다.
+ * JavaMailSenderImpl 은 send 호출마다 연결, STARTTLS, AUTH 를 새로 수행하기 때문에
+ * 메일 한 통보다 연결 수립 비용이 더 크다.
+ * <p>
+ * 유휴 연결은 idleTimeout 이 지나면 닫고, 서버가 먼저 끊은 연결은 첫 발송에 실패하면 새 연결로 한 번 더 시도한다.
+ * 배치 도중 수신자 거부가 아닌 이유로 실패하면 그 연결을 버리고 다음 메일은 새 연결로 보낸다.
+ * Transport 는 thread-safe 하지 않으므로 한 번에 한 스레드만 빌려 쓴다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final LinkedBlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+    private final int maxIdle;
+    private final long idleTimeoutNanos;
+
+    public PooledJavaMailSender(int maxIdle, long idleTimeoutMillis) {
+        this.maxIdle = maxIdle;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+
+        PooledTransport transport = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                if (transport == null) {
+                    try {
+                        transport = borrow();
+                    } catch (Exception e) {
+                        if (i == 0 && e instanceof AuthenticationFailedException) {
+                            throw new MailAuthenticationException(e);
+                        }
+                        // 새 연결조차 맺지 못하면 남은 메일도 보낼 수 없다. 이미 보낸 메일은 실패로 남기지 않는다
+                        for (int j = i; j < mimeMessages.length; j++) {
+                            failedMessages.put(originalMessage(mimeMessages, originalMessages, j), e);
+                        }
+                        throw new MailSendException("Mail server connection failed", e, failedMessages);
+                    }
+                }
+                try {
+                    transport = send(transport, mimeMessages[i]);
+                } catch (SendFailedException e) {
+                    // 수신자 거부는 연결 문제가 아니므로 같은 연결로 다음 메일을 보낸다.
+                    // 단, 재연결 중에 거부됐다면 그 연결은 이미 닫혔다
+                    failedMessages.put(originalMessage(mimeMessages, originalMessages, i), e);
+                    if (transport.closed()) {
+                        transport = null;
+                    }
+                } catch (Exception e) {
+                    // 연결 상태를 알 수 없으므로 버리고 다음 메일은 다른 연결로 보낸다
+                    failedMessages.put(originalMessage(mimeMessages, originalMessages, i), e);
+                    close(transport);
+                    transport = null;
+                }
+            }
+        } finally {
+            if (transport != null) {
+                release(transport);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private PooledTransport send(PooledTransport transport, MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+        Address[] addresses = mimeMessage.getAllRecipients();
+        Address[] recipients = (addresses != null ? addresses : new Address[0]);
+
+        try {
+            transport.transport().sendMessage(mimeMessage, recipients);
+            transport.markAlive();
+            return transport;
+        } catch (SendFailedException e) {
+            throw e;
+        } catch (MessagingException e) {
+            if (transport.alive()) {
+                throw e;
+            }
+            // 풀에서 꺼낸 뒤 한 번도 성공하지 못한 연결이면 서버가 끊은 것으로 보고 새 연결로 한 번 더 보낸다
+            log.debug("Pooled SMTP connection was stale, reconnecting", e);
+            close(transport);
+            PooledTransport fresh = new PooledTransport(connectTransport());
+            try {
+                fresh.transport().sendMessage(mimeMessage, recipients);
+            } catch (MessagingException retryFailure) {
+                close(fresh);
+                throw retryFailure;
+            }
+            return fresh;
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport transport;
+        while ((transport = idleTransports.pollFirst()) != null) {
+            if (!transport.expired(idleTimeoutNanos) && transport.transport().isConnected()) {
+                return transport.reuse();
+            }
+            close(transport);
+        }
+        return new PooledTransport(connectTransport());
+    }
+
+    // 닫혔거나 끊긴 연결은 풀에 돌려놓지 않는다
+    private void release(PooledTransport transport) {
+        evictExpired();
+        if (transport.closed() || !transport.transport().isConnected() || idleTransports.size() >= maxIdle) {
+            close(transport);
+            return;
+        }
+        transport.touch();
+        idleTransports.offerFirst(transport);
+    }
+
+    private void evictExpired() {
+        PooledTransport oldest;
+        while ((oldest = idleTransports.peekLast()) != null && oldest.expired(idleTimeoutNanos)) {
+            if (idleTransports.removeLastOccurrence(oldest)) {
+                close(oldest);
+            }
+        }
+    }
+
+    private static Object originalMessage(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages, int index) {
+        return (originalMessages != null ? originalMessages[index] : mimeMessages[index]);
+    }
+
+    private static void close(PooledTransport transport) {
+        if (!transport.markClosed()) {
+            return;
+        }
+        try {
+            transport.transport().close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport transport;
+        while ((transport = idleTransports.pollFirst()) != null) {
+            close(transport);
+        }
+    }
+
+    int idleCount() {
+        return idleTransports.size();
+    }
+
+    private static final class PooledTransport {
+
+        private final Transport transport;
+        private long lastUsedNanos = System.nanoTime();
+        private boolean alive = true;
+        private boolean closed;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        Transport transport() {
+            return transport;
+        }
+
+        boolean alive() {
+            return alive;
+        }
+
+        void markAlive() {
+            this.alive = true;
+        }
+
+        boolean closed() {
+            return closed;
+        }
+
+        // 처음 닫을 때만 true 를 돌려준다
+        boolean markClosed() {
+            if (closed) {
+                return false;
+            }
+            this.closed = true;
+            return true;
+        }
+
+        PooledTransport reuse() {
+            this.alive = false;
+            return this;
+        }
+
+        void touch() {
+            this.lastUsedNanos = System.nanoTime();
+        }
+
+        boolean expired(long idleTimeoutNanos) {
+            return System.nanoTime() - lastUsedNanos > idleTimeoutNanos;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.mail.dispatch.mode", havingValue = "sync")
+public class SyncEmailDispatcher implements EmailDispatcher {
+
+    private final EmailClient emailClient;
+
+    @Override
+    public void dispatch(String to, String subject, String text) {
+        emailClient.sendOneEmail(to, subject, text);
+    }
+}
@@ -0,0 +1,76 @@
+package com.leedahun.storecaseidentity.common.mail.entity;
+
+import com.leedahun.storecaseidentity.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@ToString(exclude = "body")
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "idx_email_outbox_status_next_attempt_at", columnList = "status, nextAttemptAt"))
+public class EmailOutbox extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 120)
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static EmailOutbox pending(String recipient, String subject, String body, LocalDateTime now) {
+        return EmailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    // 다른 인스턴스가 가져가지 않도록 발송하는 동안 다음 시도 시각을 lease 만큼 미룬다
+    public void lease(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attemptCount++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.attemptCount++;
+        this.status = EmailOutboxStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
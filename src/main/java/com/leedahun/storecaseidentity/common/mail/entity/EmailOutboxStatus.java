@@ -0,0 +1,6 @@
+package com.leedahun.storecaseidentity.common.mail.entity;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,37 @@
+package com.leedahun.storecaseidentity.common.mail.repository;
+
+import com.leedahun.storecaseidentity.common.mail.entity.EmailOutbox;
+import com.leedahun.storecaseidentity.common.mail.entity.EmailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // lock.timeout = -2 : SELECT ... FOR UPDATE SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from EmailOutbox o where o.status = :status and o.nextAttemptAt <= :now order by o.nextAttemptAt")
+    List<EmailOutbox> findClaimable(@Param("status") EmailOutboxStatus status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("delete from EmailOutbox o where o.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 보내지 못한 행의 lease 를 풀어 시도 횟수를 늘리지 않고 다시 가져갈 수 있게 한다
+    @Modifying
+    @Query("update EmailOutbox o set o.nextAttemptAt = :now where o.id in :ids")
+    int releaseByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -13,14 +13,21 @@ public enum ErrorMessage {
     TOKEN_EXPIRED("만료된 토큰입니다."),
     INVALID_TOKEN("유효하지 않은 토큰입니다."),
     EMPTY_TOKEN("토큰이 존재하지 않습니다."),
+    REFRESH_TOKEN_REUSED("이미 사용된 토큰입니다. 다시 로그인해주세요."),
+    REFRESH_TOKEN_REVOKED("로그아웃되었거나 만료된 세션입니다. 다시 로그인해주세요."),
     INVALID_PASSWORD("비밀번호가 일치하지 않습니다."),
     UNAUTHORIZED("인증이 필요합니다."),
     FORBIDDEN("권한이 없습니다."),
+    PASSWORD_HASHING_UNAVAILABLE("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_LOCKED("로그인 실패가 반복되어 잠시 로그인이 제한되었습니다."),
+    USER_IMPORT_LIMIT_EXCEEDED("한 번에 등록할 수 있는 회원 수를 초과했습니다."),
 
     EMAIL_VERIFICATION_FAILED("인증번호가 일치하지 않습니다."),
     EMAIL_VERIFICATION_EXPIRED("인증코드의 유효기간이 지났습니다."),
     EMAIL_VERIFICATION_LOCKED("일정 시간 동안 많은 시도로 인해 인증이 제한되었습니다."),
-    EMAIL_VERIFICATION_ATTEMPT_LIMIT_EXCEEDED("지정된 인증 횟수가 초과되었습니다.");
+    EMAIL_VERIFICATION_ATTEMPT_LIMIT_EXCEEDED("지정된 인증 횟수가 초과되었습니다."),
+    EMAIL_VERIFICATION_CONFLICT("다른 요청이 인증 정보를 변경하는 중입니다. 잠시 후 다시 시도해주세요.");
 
     private final String message;
 }
@@ -13,6 +13,8 @@ public enum SuccessMessage {
 
     LOGIN_SUCCESS("로그인에 성공하였습니다."),
     CREATE_TOKENS("토큰발급에 성공했습니다."),
+    LOGOUT_SUCCESS("로그아웃에 성공하였습니다."),
+    USER_IMPORT_SUCCESS("회원 일괄 등록을 처리했습니다."),
 
     EMAIL_SEND_SUCCESS("이메일 전송에 성공하였습니다."),
     EMAIL_VERIFIED("이메일 인증이 완료되었습니다.");
@@ -0,0 +1,64 @@
+package com.leedahun.storecaseidentity.common.metrics;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * P6Spy 가 가로챈 JDBC 실행마다 쿼리 종류별 실행 시간과 횟수를 기록한다.
+ * p6spy-spring-boot-starter 가 JdbcEventListener 빈을 자동으로 등록한다.
+ */
+@Component
+public class QueryMetricsListener extends JdbcEventListener {
+
+    private final Map<QueryType, Timer> successTimers = new EnumMap<>(QueryType.class);
+    private final Map<QueryType, Timer> errorTimers = new EnumMap<>(QueryType.class);
+
+    public QueryMetricsListener(MeterRegistry meterRegistry) {
+        for (QueryType type : QueryType.values()) {
+            successTimers.put(type, timer(meterRegistry, type, "success"));
+            errorTimers.put(type, timer(meterRegistry, type, "error"));
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, QueryType type, String result) {
+        return Timer.builder("db.query")
+                .tag("type", type.name().toLowerCase(Locale.ROOT))
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        QueryType type = QueryType.of(statementInformation.getSql());
+        (e == null ? successTimers : errorTimers).get(type).record(timeElapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    enum QueryType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        // 전체 SQL 을 복사하지 않고 첫 키워드만 비교한다
+        static QueryType of(String sql) {
+            if (sql == null) {
+                return OTHER;
+            }
+            int start = 0;
+            while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+                start++;
+            }
+            for (QueryType type : values()) {
+                if (type != OTHER && sql.regionMatches(true, start, type.name(), 0, type.name().length())) {
+                    return type;
+                }
+            }
+            return OTHER;
+        }
+    }
+}
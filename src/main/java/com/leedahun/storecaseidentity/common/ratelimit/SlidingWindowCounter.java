@@ -0,0 +1,73 @@
+package com.leedahun.storecaseidentity.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 창을 buckets 개의 칸으로 나눈 링 버퍼로 최근 windowMillis 동안의 횟수를 센다.
+ * 칸마다 "몇 번째 칸 시간인지(epoch)"와 횟수를 long 하나에 묶어 CAS 로 갱신하므로
+ * 기록할 때 락을 잡지 않고 객체도 만들지 않는다. 이전 바퀴의 칸은 처음 기록할 때 덮어쓴다.
+ */
+public class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final long bucketMillis;
+    private final AtomicLongArray slots;
+    private final AtomicLong lockedUntil = new AtomicLong();
+
+    public SlidingWindowCounter(long windowMillis, int buckets) {
+        this.slots = new AtomicLongArray(Math.max(1, buckets));
+        this.bucketMillis = Math.max(1L, windowMillis / slots.length());
+    }
+
+    public int increment(long now) {
+        long epoch = now / bucketMillis;
+        int index = (int) (epoch % slots.length());
+        while (true) {
+            long slot = slots.get(index);
+            long next;
+            if ((slot >>> COUNT_BITS) != epoch) {
+                next = (epoch << COUNT_BITS) | 1;
+            } else if ((slot & COUNT_MASK) < COUNT_MASK) {
+                next = slot + 1;
+            } else {
+                break;
+            }
+            if (slots.compareAndSet(index, slot, next)) {
+                break;
+            }
+        }
+        return count(now);
+    }
+
+    public int count(long now) {
+        long epoch = now / bucketMillis;
+        int total = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            long slotEpoch = slot >>> COUNT_BITS;
+            if (slotEpoch <= epoch && slotEpoch > epoch - slots.length()) {
+                total += (int) (slot & COUNT_MASK);
+            }
+        }
+        return total;
+    }
+
+    // 잠금이 풀린 뒤에는 새로 세도록 잠글 때 기록을 비운다
+    public void lock(long until) {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0L);
+        }
+        lockedUntil.accumulateAndGet(until, Math::max);
+    }
+
+    public long lockedUntil() {
+        return lockedUntil.get();
+    }
+
+    public boolean isIdle(long now) {
+        return lockedUntil.get() <= now && count(now) == 0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.leedahun.storecaseidentity.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA 방식의 토큰 버킷. 키마다 버킷이 다시 가득 차는 시각 하나만 AtomicLong 에 두고 CAS 로 갱신하므로 락을 잡지 않는다.
+ * 그 시각이 지난 버킷은 새로 만든 버킷과 같으므로 지워도 동작이 바뀌지 않는다.
+ * <p>
+ * 키가 maxKeys 에 닿으면 키 해시로 고른 고정 개수의 공유 버킷(stripe)을 쓴다.
+ * 봇이 키를 계속 바꿔도 메모리는 늘지 않고, 같은 stripe 에 걸린 키끼리 한도를 나눠 쓴다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long refillMillis;
+    private final long burstMillis;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong[] overflowBuckets;
+
+    public TokenBucketRateLimiter(int capacity, long refillMillis, int maxKeys, int overflowStripes) {
+        this.refillMillis = refillMillis;
+        this.burstMillis = capacity * refillMillis;
+        this.maxKeys = maxKeys;
+        this.overflowBuckets = new AtomicLong[Math.max(1, overflowStripes)];
+        for (int i = 0; i < overflowBuckets.length; i++) {
+            overflowBuckets[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * 토큰을 하나 꺼낸다. 허용하면 0, 거절하면 다음 토큰이 생길 때까지 남은 ms 를 반환한다.
+     */
+    public long tryAcquire(String key, long now) {
+        AtomicLong bucket = bucket(key);
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + refillMillis;
+            long waitMillis = next - now - burstMillis;
+            if (waitMillis > 0) {
+                return waitMillis;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 지우는 사이 다른 스레드가 꺼낸 토큰은 한 번 더 허용될 수 있지만, 이미 가득 찬 버킷이라 차이는 토큰 하나다
+    public void evictIdle(long now) {
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+    }
+
+    private AtomicLong bucket(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            int hash = key.hashCode();
+            return overflowBuckets[Math.floorMod(hash ^ (hash >>> 16), overflowBuckets.length)];
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
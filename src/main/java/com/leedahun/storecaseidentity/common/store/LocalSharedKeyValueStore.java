@@ -0,0 +1,82 @@
+package com.leedahun.storecaseidentity.common.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 저장소 없이 실행할 때 쓰는 SharedKeyValueStore 구현.
+ * 값은 문자열로만 주고받아 네트워크 저장소와 같은 방식(직렬화된 값, 키 단위 원자 연산, TTL)으로 동작한다.
+ * 같은 JVM 안에서만 공유되므로 운영에서 여러 인스턴스를 띄울 때는 Redis 구현으로 교체한다.
+ * shared 저장소를 고른 경우에만 등록해 다른 저장소에서는 정리 스케줄도 돌지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.mail.verification_store", havingValue = "shared")
+@RequiredArgsConstructor
+public class LocalSharedKeyValueStore implements SharedKeyValueStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    @Override
+    public Optional<String> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expired(clock.millis())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    @Override
+    public boolean compareAndSet(String key, String expected, String value, Duration ttl) {
+        long now = clock.millis();
+        AtomicBoolean updated = new AtomicBoolean();
+        entries.compute(key, (k, current) -> {
+            String currentValue = (current == null || current.expired(now)) ? null : current.value();
+            if (!Objects.equals(currentValue, expected)) {
+                return current;
+            }
+            updated.set(true);
+            return new Entry(value, now + ttl.toMillis());
+        });
+        return updated.get();
+    }
+
+    @Override
+    public void delete(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public long increment(String key) {
+        Entry entry = entries.merge(key, new Entry("1", Long.MAX_VALUE),
+                (current, one) -> new Entry(Long.toString(Long.parseLong(current.value()) + 1), current.expiresAtMillis()));
+        return Long.parseLong(entry.value());
+    }
+
+    // Redis 의 만료 처리처럼 읽히지 않은 만료 키도 주기적으로 정리한다
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = clock.millis();
+        entries.values().removeIf(entry -> entry.expired(now));
+    }
+
+    private record Entry(String value, long expiresAtMillis) {
+
+        boolean expired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.leedahun.storecaseidentity.common.store;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스가 함께 보는 key-value 저장소 SPI.
+ * Redis 로 구현할 때 compareAndSet 은 WATCH/MULTI 또는 Lua 스크립트, increment 는 INCR 에 대응한다.
+ */
+public interface SharedKeyValueStore {
+
+    Optional<String> get(String key);
+
+    /**
+     * 현재 값이 expected 와 같을 때만 value 로 바꾼다. expected 가 null 이면 키가 없을 때만 저장한다.
+     */
+    boolean compareAndSet(String key, String expected, String value, Duration ttl);
+
+    void delete(String key);
+
+    long increment(String key);
+}
@@ -0,0 +1,80 @@
+package com.leedahun.storecaseidentity.common.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * 백그라운드 스레드가 tick 마다 갱신하는 현재 시각을 돌려주는 Clock.
+ * 호출마다 시스템 시계를 읽고 Instant 를 만드는 대신 캐시된 Instant 를 그대로 반환하므로,
+ * 만료/잠금 판단이나 로그 타임스탬프처럼 tick 수준의 정밀도면 충분한 곳에서 사용한다.
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+    private final ZoneId zone;
+    private final Ticker ticker;
+    // start 로 만든 Clock 만 Ticker 를 멈출 수 있다
+    private final boolean ownsTicker;
+
+    private CoarseClock(ZoneId zone, Ticker ticker, boolean ownsTicker) {
+        this.zone = zone;
+        this.ticker = ticker;
+        this.ownsTicker = ownsTicker;
+    }
+
+    public static CoarseClock start(ZoneId zone, Duration tick) {
+        return new CoarseClock(zone, new Ticker(tick), true);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    // 같은 Ticker 를 공유하므로 스레드를 새로 만들지 않는다
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new CoarseClock(zone, ticker, false);
+    }
+
+    @Override
+    public Instant instant() {
+        return ticker.now;
+    }
+
+    @Override
+    public long millis() {
+        return ticker.now.toEpochMilli();
+    }
+
+    // withZone 으로 얻은 Clock 을 닫아도 공유하는 애플리케이션 Clock 의 시각이 멈추지 않도록 아무것도 하지 않는다
+    @Override
+    public void close() {
+        if (ownsTicker) {
+            ticker.scheduler.shutdownNow();
+        }
+    }
+
+    private static final class Ticker {
+
+        private final ScheduledExecutorService scheduler;
+        private volatile Instant now = Instant.ofEpochMilli(System.currentTimeMillis());
+
+        private Ticker(Duration tick) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("coarse-clock-");
+            threadFactory.setDaemon(true);
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            long tickMillis = Math.max(1, tick.toMillis());
+            scheduler.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private void tick() {
+            now = Instant.ofEpochMilli(System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.leedahun.storecaseidentity.config;
+
+import com.leedahun.storecaseidentity.common.time.CoarseClock;
+import java.time.Duration;
+import java.time.ZoneId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ClockConfig {
+
+    @Bean(destroyMethod = "close")
+    public CoarseClock clock(@Value("${time.tick_millis:10}") long tickMillis) {
+        return CoarseClock.start(ZoneId.systemDefault(), Duration.ofMillis(tickMillis));
+    }
+}
@@ -0,0 +1,36 @@
+package com.leedahun.storecaseidentity.config;
+
+import com.leedahun.storecaseidentity.common.id.Tsid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * Tsid 는 Hibernate 가 직접 생성하는 id generator 와 JDBC batch insert 가 함께 쓰므로 정적 상태로 두고,
+ * 기동 시 여기서 인스턴스별 node 만 설정한다.
+ * <p>
+ * node 가 겹치는 두 인스턴스가 같은 밀리초에 insert 하면 PK 가 같아지므로 임의 값을 쓰지 않는다.
+ * local, test 프로필이 아니면 id_generator.node 를 반드시 설정해야 기동된다.
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    static final int UNCONFIGURED = -1;
+
+    public IdGeneratorConfig(@Value("${id_generator.node:-1}") int node, Environment environment) {
+        if (node == UNCONFIGURED) {
+            if (!environment.acceptsProfiles(Profiles.of("local", "test"))) {
+                throw new IllegalStateException(
+                        "id_generator.node (TSID_NODE) must be set to a unique value between 0 and " + Tsid.MAX_NODE
+                                + " for each instance");
+            }
+            log.warn("id_generator.node is not configured, using node 0 for a single local instance");
+            node = 0;
+        }
+        Tsid.configureNode(node);
+        log.info("TSID node configured. node={}", node);
+    }
+}
@@ -0,0 +1,23 @@
+package com.leedahun.storecaseidentity.config;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(value = "instrumentation")
+public class InstrumentationProperties {
+
+    // DEBUG 가 꺼져 있을 때 N 번 중 1 번만 인자를 INFO 로 남긴다 (0 이면 샘플링하지 않음)
+    private int sampleRate = 100;
+
+    // 이 시간 이상 걸린 호출은 샘플링과 관계없이 인자와 함께 남긴다
+    private long slowThresholdMillis = 1000;
+
+    // 로그에 남길 때 값을 가리는 필드 이름
+    private List<String> redactedFields = List.of("password", "accessToken", "refreshToken", "token", "code");
+}
@@ -1,19 +1,53 @@
 package com.leedahun.storecaseidentity.config;
 
+import com.leedahun.storecaseidentity.common.error.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-
+/**
+ * 컨트롤러/서비스 호출 시간을 Timer 히스토그램으로 기록한다.
+ * 인자 문자열은 DEBUG 이거나, 느린 호출이거나, 샘플링에 걸린 호출에서만 만들고 민감한 필드는 가린다.
+ */
 @Slf4j
 @Aspect
 @Component
 public class LoggingAspectConfig {
 
+    private static final String TIMER_NAME = "app.invocation";
+    private static final int MAX_LOG_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final int sampleRate;
+    private final long slowThresholdNanos;
+    private final Pattern redactPattern;
+
+    // 조인 포인트마다 Timer 를 한 번만 조회해 매 호출 Meter.Id 를 만들지 않는다
+    private final Map<JoinPoint.StaticPart, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<ErrorTimerKey, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    public LoggingAspectConfig(MeterRegistry meterRegistry, InstrumentationProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = properties.getSampleRate();
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMillis());
+        this.redactPattern = Pattern.compile("\\b(" + properties.getRedactedFields().stream()
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|")) + ")=([^,)\\]]*)");
+    }
+
     @Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
     public void controllerLayer() {}
 
@@ -22,44 +56,76 @@ public class LoggingAspectConfig {
 
     @Around("controllerLayer()")
     public Object logController(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-        String sig = joinPoint.getSignature().toShortString();
-        Object[] args = joinPoint.getArgs();
+        return instrument(joinPoint, "controller");
+    }
+
+    @Around("serviceLayerByAnnotation()")
+    public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return instrument(joinPoint, "service");
+    }
 
-        log.info("➡️ Controller enter {} args={}", sig, Arrays.toString(args));
+    private Object instrument(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long start = System.nanoTime();
         try {
             Object ret = joinPoint.proceed();
-            log.info("⬅️ Controller exit  {} result={} ({} ms)",
-                    sig, shrink(ret), System.currentTimeMillis() - start);
+            long elapsed = System.nanoTime() - start;
+            successTimers.computeIfAbsent(joinPoint.getStaticPart(), staticPart -> timer(staticPart, layer, "none"))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            logInvocation(joinPoint, layer, elapsed, ret);
             return ret;
         } catch (Throwable t) {
-            log.error("💥 Controller error {} msg={}", sig, t.getMessage(), t);
+            long elapsed = System.nanoTime() - start;
+            errorTimers.computeIfAbsent(new ErrorTimerKey(joinPoint.getStaticPart(), t.getClass()),
+                            key -> timer(key.staticPart(), layer, key.exceptionType().getSimpleName()))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            if (t instanceof CustomException) {
+                // 응답 변환은 GlobalExceptionHandler 가 맡는 예상된 예외라 DEBUG 로만 남긴다
+                log.debug("{} rejected {} ({} ms) msg={}", layer, joinPoint.getSignature().toShortString(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), t.getMessage());
+            } else {
+                log.error("{} error {} ({} ms) args={} msg={}", layer, joinPoint.getSignature().toShortString(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), redact(Arrays.toString(joinPoint.getArgs())), t.getMessage(), t);
+            }
             throw t;
         }
     }
 
-    @Around("serviceLayerByAnnotation()")
-    public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-        String sig = joinPoint.getSignature().toShortString();
+    private Timer timer(JoinPoint.StaticPart staticPart, String layer, String exception) {
+        return Timer.builder(TIMER_NAME)
+                .tag("layer", layer)
+                .tag("class", staticPart.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", staticPart.getSignature().getName())
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
+    private void logInvocation(ProceedingJoinPoint joinPoint, String layer, long elapsedNanos, Object ret) {
         if (log.isDebugEnabled()) {
-            log.debug("▶ Service enter {}", sig);
+            log.debug("{} {} ({} ms) args={} result={}", layer, joinPoint.getSignature().toShortString(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), redact(Arrays.toString(joinPoint.getArgs())), redact(String.valueOf(ret)));
+            return;
         }
-        try {
-            Object ret = joinPoint.proceed();
-            long time = System.currentTimeMillis() - start;
-            log.info("◀ Service exit  {} time={}", sig, time);
-            return ret;
-        } catch (Throwable t) {
-            log.error("🔥 Service error {} msg={}", sig, t.getMessage(), t);
-            throw t;
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("slow {} {} ({} ms) args={}", layer, joinPoint.getSignature().toShortString(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), redact(Arrays.toString(joinPoint.getArgs())));
+            return;
+        }
+        if (sampled()) {
+            log.info("sampled {} {} ({} ms) args={}", layer, joinPoint.getSignature().toShortString(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), redact(Arrays.toString(joinPoint.getArgs())));
         }
     }
 
-    private String shrink(Object o) {
-        if (o == null) return "null";
-        String s = String.valueOf(o);
-        return s.length() > 300 ? s.substring(0, 300) + "...(trunc)" : s;
+    private boolean sampled() {
+        return sampleRate > 0 && log.isInfoEnabled() && ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    String redact(String value) {
+        String redacted = redactPattern.matcher(value).replaceAll("$1=****");
+        return redacted.length() > MAX_LOG_LENGTH ? redacted.substring(0, MAX_LOG_LENGTH) + "...(trunc)" : redacted;
+    }
+
+    private record ErrorTimerKey(JoinPoint.StaticPart staticPart, Class<? extends Throwable> exceptionType) {
     }
 }
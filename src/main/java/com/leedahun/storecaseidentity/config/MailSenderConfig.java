@@ -0,0 +1,37 @@
+package com.leedahun.storecaseidentity.config;
+
+import com.leedahun.storecaseidentity.common.mail.PooledJavaMailSender;
+import java.util.Properties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailSenderConfig {
+
+    @Bean
+    public PooledJavaMailSender mailSender(MailProperties mailProperties,
+                                           @Value("${spring.mail.pool.max_idle:2}") int maxIdle,
+                                           @Value("${spring.mail.pool.idle_timeout_millis:30000}") long idleTimeoutMillis) {
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(maxIdle, idleTimeoutMillis);
+        mailSender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            mailSender.setPort(mailProperties.getPort());
+        }
+        mailSender.setUsername(mailProperties.getUsername());
+        mailSender.setPassword(mailProperties.getPassword());
+        mailSender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            mailSender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+        if (!mailProperties.getProperties().isEmpty()) {
+            Properties properties = new Properties();
+            properties.putAll(mailProperties.getProperties());
+            mailSender.setJavaMailProperties(properties);
+        }
+        return mailSender;
+    }
+}
@@ -1,15 +1,27 @@
 package com.leedahun.storecaseidentity.config;
 
+import com.leedahun.storecaseidentity.config.P6spyProperties.Mode;
 import com.p6spy.engine.spy.P6SpyOptions;
 import jakarta.annotation.PostConstruct;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@RequiredArgsConstructor
 public class P6spyConfig {
 
+    private final Clock clock;
+    private final P6spyProperties p6spyProperties;
+
     @PostConstruct
     public void setLogMessageFormat() {
+        P6spyPrettySqlFormatter.setClock(clock);
+        P6spyPrettySqlFormatter.setPretty(p6spyProperties.getMode() == Mode.PRETTY);
+        P6spySamplingLogger.configure(p6spyProperties);
+
+        P6SpyOptions.getActiveInstance().setAppender(P6spySamplingLogger.class.getName());
         P6SpyOptions.getActiveInstance().setLogMessageFormat(P6spyPrettySqlFormatter.class.getName());
     }
 
-}
\ No newline at end of file
+}
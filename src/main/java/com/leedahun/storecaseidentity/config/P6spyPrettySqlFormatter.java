@@ -4,29 +4,73 @@ import com.p6spy.engine.logging.Category;
 import com.p6spy.engine.spy.appender.MessageFormattingStrategy;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Locale;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 public class P6spyPrettySqlFormatter implements MessageFormattingStrategy {
 
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yy.MM.dd HH:mm:ss");
+
+    // P6Spy 가 직접 생성하는 클래스라 빈 주입 대신 P6spyConfig 에서 Clock 을 넘겨받는다
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    // false 면 Hibernate formatter 를 거치지 않고 SQL 을 한 줄 그대로 남긴다
+    private static volatile boolean pretty = true;
+
+    // 초 단위 포맷이므로 같은 초 안에서는 포맷 결과를 재사용한다
+    private static volatile Timestamp lastTimestamp = new Timestamp(Long.MIN_VALUE, "");
+
+    static void setClock(Clock clock) {
+        P6spyPrettySqlFormatter.clock = clock;
+    }
+
+    static void setPretty(boolean pretty) {
+        P6spyPrettySqlFormatter.pretty = pretty;
+    }
+
     @Override
     public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared, String sql, String url) {
+        if (!pretty) {
+            return formatCompact(elapsed, category, sql);
+        }
         sql = formatSql(category, sql);
 
-        Date currentDate = new Date();
+        return timestamp() + " | "+ "OperationTime : "+ elapsed + "ms" + sql;
+    }
 
-        SimpleDateFormat format1 = new SimpleDateFormat("yy.MM.dd HH:mm:ss");
+    private static String formatCompact(long elapsed, String category, String sql) {
+        String timestamp = timestamp();
+        StringBuilder message = new StringBuilder(timestamp.length() + category.length() + (sql != null ? sql.length() : 0) + 40)
+                .append(timestamp)
+                .append(" | OperationTime : ").append(elapsed).append("ms")
+                .append(" | ").append(category);
+        if (sql != null && !sql.isEmpty()) {
+            message.append(" | ").append(sql);
+        }
+        return message.toString();
+    }
 
-        return format1.format(currentDate) + " | "+ "OperationTime : "+ elapsed + "ms" + sql;
+    private static String timestamp() {
+        Clock current = clock;
+        long epochSecond = current.millis() / 1000;
+        Timestamp cached = lastTimestamp;
+        if (cached.epochSecond() != epochSecond) {
+            cached = new Timestamp(epochSecond, TIMESTAMP_FORMAT.format(LocalDateTime.now(current)));
+            lastTimestamp = cached;
+        }
+        return cached.formatted();
+    }
+
+    private record Timestamp(long epochSecond, String formatted) {
     }
 
     private String formatSql(String category,String sql) {
-        if(sql ==null || sql.trim().equals("")) return sql;
+        if(sql ==null || sql.isBlank()) return sql;
 
         if (Category.STATEMENT.getName().equals(category)) {
-            String tmpsql = sql.trim().toLowerCase(Locale.ROOT);
-            if(tmpsql.startsWith("create") || tmpsql.startsWith("alter") || tmpsql.startsWith("comment")) {
+            // 전체 SQL 을 소문자로 복사하지 않고 앞부분 키워드만 비교한다
+            if(startsWithKeyword(sql, "create") || startsWithKeyword(sql, "alter") || startsWithKeyword(sql, "comment")) {
                 sql = FormatStyle.DDL.getFormatter().format(sql);
             }else {
                 sql = FormatStyle.BASIC.getFormatter().format(sql);
@@ -36,4 +80,12 @@ public class P6spyPrettySqlFormatter implements MessageFormattingStrategy {
 
         return sql;
     }
-}
\ No newline at end of file
+
+    private static boolean startsWithKeyword(String sql, String keyword) {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        return sql.regionMatches(true, start, keyword, 0, keyword.length());
+    }
+}
@@ -0,0 +1,27 @@
+package com.leedahun.storecaseidentity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(value = "p6spy")
+public class P6spyProperties {
+
+    private Mode mode = Mode.PRETTY;
+
+    // compact 모드에서 N 개 중 1 개만 로그를 남긴다 (1 이면 전부)
+    private int sampleRate = 1;
+
+    // 이 시간 이상 걸린 쿼리는 샘플링과 관계없이 항상 남긴다
+    private long slowThresholdMillis = 200;
+
+    public enum Mode {
+        PRETTY,     // Hibernate formatter 로 줄바꿈 정리 (로컬 개발용)
+        COMPACT,    // 포맷 없이 한 줄로, sample_rate 만큼 샘플링
+        SLOW_ONLY   // slow_threshold_millis 이상 걸린 쿼리만
+    }
+}
@@ -0,0 +1,39 @@
+package com.leedahun.storecaseidentity.config;
+
+import com.leedahun.storecaseidentity.config.P6spyProperties.Mode;
+import com.p6spy.engine.logging.Category;
+import com.p6spy.engine.spy.appender.Slf4JLogger;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 포맷팅 전에 로그를 남길지 먼저 결정해, 버릴 쿼리에는 문자열을 만들지 않는다.
+ * P6Spy 가 클래스 이름으로 직접 생성하므로 설정은 P6spyConfig 에서 정적으로 넘겨받는다.
+ */
+public class P6spySamplingLogger extends Slf4JLogger {
+
+    private static volatile Policy policy = new Policy(Mode.PRETTY, 1, 0);
+
+    static void configure(P6spyProperties properties) {
+        policy = new Policy(properties.getMode(), Math.max(1, properties.getSampleRate()), properties.getSlowThresholdMillis());
+    }
+
+    @Override
+    public void logSQL(int connectionId, String now, long elapsed, Category category, String prepared, String sql, String url) {
+        if (policy.shouldLog(elapsed)) {
+            super.logSQL(connectionId, now, elapsed, category, prepared, sql, url);
+        }
+    }
+
+    record Policy(Mode mode, int sampleRate, long slowThresholdMillis) {
+
+        boolean shouldLog(long elapsed) {
+            return switch (mode) {
+                case PRETTY -> true;
+                case SLOW_ONLY -> elapsed >= slowThresholdMillis;
+                case COMPACT -> elapsed >= slowThresholdMillis
+                        || sampleRate == 1
+                        || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+            };
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.leedahun.storecaseidentity.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * 가상 스레드 모드에서도 스케줄 작업은 플랫폼 스레드에서 실행한다.
+     * outbox relay 가 호출하는 Jakarta Mail SMTPTransport 는 synchronized 안에서 소켓 I/O 를 하므로
+     * JDK 21 의 가상 스레드에서 실행하면 캐리어 스레드가 발송 내내 고정(pinning)된다.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+}
@@ -1,5 +1,8 @@
 package com.leedahun.storecaseidentity.domain.auth.config;
 
+import com.leedahun.storecaseidentity.domain.auth.constant.JwtSigningAlgorithm;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -13,4 +16,13 @@ public class JwtProperties {
     private String secret;
     private long expirationTime;
     private long refreshExpirationTime;
+
+    // ES256 일 때 사용하는 P-256 키 쌍 (PKCS#8 / X.509, Base64 또는 PEM)
+    private JwtSigningAlgorithm algorithm = JwtSigningAlgorithm.HS512;
+    private String keyId;
+    private String privateKey;
+    private String publicKey;
+    // 교체 전 키로 서명된 토큰이 만료될 때까지 JWKS 에 함께 공개하고 검증에도 사용한다 (kid -> 공개키)
+    private Map<String, String> previousPublicKeys = new LinkedHashMap<>();
+    private long jwksMaxAgeSeconds = 3600;
 }
@@ -0,0 +1,20 @@
+package com.leedahun.storecaseidentity.domain.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(value = "login_lockout")
+public class LoginLockoutProperties {
+    private boolean enabled = true;
+    private long windowMillis = 600_000;
+    private int buckets = 10;
+    private int emailThreshold = 5;
+    private int ipThreshold = 50;
+    private long lockMillis = 900_000;
+    private int maxKeys = 100_000;
+}
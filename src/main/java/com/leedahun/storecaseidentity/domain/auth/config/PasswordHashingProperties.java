@@ -0,0 +1,22 @@
+package com.leedahun.storecaseidentity.domain.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(value = "hashing")
+public class PasswordHashingProperties {
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private long timeoutMillis = 3000;
+
+    private boolean calibrate = true;
+    private long targetMillis = 250;
+    private int minStrength = 10;
+    private int maxStrength = 14;
+    private int strength = 10;
+}
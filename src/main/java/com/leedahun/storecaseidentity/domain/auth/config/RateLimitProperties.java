@@ -0,0 +1,35 @@
+package com.leedahun.storecaseidentity.domain.auth.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(value = "rate_limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int maxKeys = 100_000;
+    private int overflowStripes = 1024;
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private String path;
+        private Limit ip = new Limit();
+        private Limit email = new Limit();
+    }
+
+    // capacity 가 0 이면 해당 기준으로는 제한하지 않는다
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private long refillMillis = 60_000;
+    }
+}
@@ -1,8 +1,15 @@
 package com.leedahun.storecaseidentity.domain.auth.config;
 
+import com.leedahun.storecaseidentity.domain.auth.entity.Role;
 import com.leedahun.storecaseidentity.domain.auth.filter.CustomAccessDeniedHandler;
 import com.leedahun.storecaseidentity.domain.auth.filter.CustomAuthenticationEntrypoint;
+import com.leedahun.storecaseidentity.domain.auth.filter.JwtAuthenticationFilter;
+import com.leedahun.storecaseidentity.domain.auth.filter.RateLimitFilter;
+import com.leedahun.storecaseidentity.domain.auth.util.AuthRateLimiter;
+import com.leedahun.storecaseidentity.domain.auth.util.BCryptStrengthCalibrator;
+import com.leedahun.storecaseidentity.domain.auth.util.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,6 +19,7 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -20,10 +28,22 @@ public class SecurityConfig {
 
     private final CustomAuthenticationEntrypoint authenticationEntrypoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
+    private final PasswordHashingProperties passwordHashingProperties;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthRateLimiter authRateLimiter;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = passwordHashingProperties.isCalibrate()
+                ? BCryptStrengthCalibrator.calibrate(
+                        passwordHashingProperties.getTargetMillis(),
+                        passwordHashingProperties.getMinStrength(),
+                        passwordHashingProperties.getMaxStrength())
+                : passwordHashingProperties.getStrength();
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -34,8 +54,18 @@ public class SecurityConfig {
             .formLogin(AbstractHttpConfigurer::disable)
             .httpBasic(AbstractHttpConfigurer::disable);
 
+        // 같은 기준 필터 앞에 추가한 순서대로 실행되므로 제한을 먼저 건다
+        http.addFilterBefore(new RateLimitFilter(authRateLimiter), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(verifiedTokenCache), UsernamePasswordAuthenticationFilter.class);
+
         http.authorizeHttpRequests(authorize -> authorize
                 .requestMatchers("/api/identity/auth/**").permitAll()
+                .requestMatchers("/api/identity/admin/**").hasRole(Role.ADMIN.name())
+                .requestMatchers("/actuator/health").permitAll()
+                // prometheus 는 내부망에만 여는 management 포트로 들어온 요청만 허용하고, 공개 포트에서는 관리자만 볼 수 있다
+                .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll()
+                .requestMatchers("/actuator/**").hasRole(Role.ADMIN.name())
+                .requestMatchers("/.well-known/jwks.json").permitAll()
         );
 
         http.exceptionHandling(e -> e
@@ -0,0 +1,18 @@
+package com.leedahun.storecaseidentity.domain.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(value = "user_import")
+public class UserImportProperties {
+    private int chunkSize = 100;
+    // 요청 하나가 일반적인 HTTP 타임아웃 안에 끝나도록 제한한다 (README 회원 일괄 등록 참고)
+    private int maxUsers = 500;
+    // 로그인 해싱과 같은 CPU 를 나눠 쓰므로 코어 절반만 기본으로 쓴다
+    private int hashingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+}
@@ -5,6 +5,8 @@ public final class JwtConstants {
     public static final String CLAIM_SUBJECT = "token";
     public static final String CLAIM_ID = "id";
     public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_FAMILY_ID = "fid";
+    public static final String CLAIM_SESSION_ID = "sid";
 
     private JwtConstants() {};
 }
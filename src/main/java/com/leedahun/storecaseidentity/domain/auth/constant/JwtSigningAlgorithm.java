@@ -0,0 +1,6 @@
+package com.leedahun.storecaseidentity.domain.auth.constant;
+
+public enum JwtSigningAlgorithm {
+    HS512,
+    ES256
+}
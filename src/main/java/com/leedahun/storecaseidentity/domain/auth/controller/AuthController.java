@@ -9,7 +9,9 @@ import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
 import com.leedahun.storecaseidentity.domain.auth.exception.RefreshTokenNotExistsException;
 import com.leedahun.storecaseidentity.domain.auth.service.JoinService;
 import com.leedahun.storecaseidentity.domain.auth.service.LoginService;
+import com.leedahun.storecaseidentity.domain.auth.util.AuthRateLimiter;
 import com.leedahun.storecaseidentity.domain.auth.util.CookieUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -26,6 +28,7 @@ public class AuthController {
     private final LoginService loginService;
     private final JoinService joinService;
     private final JwtProperties jwtProperties;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping("/join")
     public ResponseEntity<?> join(@RequestBody JoinRequestDto joinRequestDto) {
@@ -34,8 +37,9 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequestDto loginRequestDto) {
-        LoginResult loginResult = loginService.login(loginRequestDto);
+    public ResponseEntity<?> login(@RequestBody LoginRequestDto loginRequestDto, HttpServletRequest request) {
+        authRateLimiter.checkEmail(AuthRateLimiter.LOGIN, loginRequestDto.getEmail());
+        LoginResult loginResult = loginService.login(loginRequestDto, request.getRemoteAddr());
         ResponseCookie refreshCookie = CookieUtil.createResponseCookie(loginResult.getRefreshToken(), jwtProperties.getRefreshExpirationTime());
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, refreshCookie.toString())
@@ -58,8 +62,26 @@ public class AuthController {
                 .body(new HttpResponse(HttpStatus.OK, SuccessMessage.CREATE_TOKENS.getMessage(), tokens.getAccessToken()));
     }
 
+    // refresh 쿠키는 /refresh 경로로만 전송되므로 같은 경로의 DELETE 로 세션을 폐기한다.
+    // 폐기에 실패하더라도 브라우저에 쿠키가 남지 않도록 항상 지운다
+    @DeleteMapping("/refresh")
+    public ResponseEntity<?> logout(@CookieValue(name = "refreshToken", required = false) String refreshCookie,
+                                    HttpServletResponse response) {
+        try {
+            if (refreshCookie != null && !refreshCookie.isBlank()) {
+                loginService.logout(refreshCookie);
+            }
+        } finally {
+            CookieUtil.clearRefreshCookie(response);
+        }
+
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.LOGOUT_SUCCESS.getMessage(), null));
+    }
+
     @PostMapping("/join/email")
     public ResponseEntity<?> sendEmailVerification(@RequestBody EmailVerificationSendRequestDto emailVerificationSendRequestDto) {
+        authRateLimiter.checkEmail(AuthRateLimiter.JOIN_EMAIL, emailVerificationSendRequestDto.getEmail());
         joinService.sendJoinEmail(emailVerificationSendRequestDto.getEmail());
         return ResponseEntity
                 .status(HttpStatus.CREATED)
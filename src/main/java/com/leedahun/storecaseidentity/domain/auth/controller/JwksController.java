@@ -0,0 +1,30 @@
+package com.leedahun.storecaseidentity.domain.auth.controller;
+
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import com.leedahun.storecaseidentity.domain.auth.util.JwtSigningKeys;
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtSigningKeys jwtSigningKeys;
+    private final JwtProperties jwtProperties;
+
+    // 키는 배포할 때만 바뀌므로 max-age 동안 캐시하게 하고, 그 뒤에는 If-None-Match 로 304 를 돌려준다
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(jwtProperties.getJwksMaxAgeSeconds())).cachePublic())
+                .eTag(jwtSigningKeys.jwksETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jwtSigningKeys.jwks());
+    }
+}
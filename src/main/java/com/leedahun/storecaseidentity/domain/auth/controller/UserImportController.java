@@ -0,0 +1,27 @@
+package com.leedahun.storecaseidentity.domain.auth.controller;
+
+import com.leedahun.storecaseidentity.common.message.SuccessMessage;
+import com.leedahun.storecaseidentity.common.response.HttpResponse;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportRequestDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto;
+import com.leedahun.storecaseidentity.domain.auth.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/identity/admin/users")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    // 일부 회원이 실패해도 200 으로 응답하고 chunk 별 결과와 실패 목록을 본문에 담는다
+    @PostMapping("/import")
+    public ResponseEntity<?> importUsers(@RequestBody UserImportRequestDto userImportRequestDto) {
+        UserImportResponseDto result = userImportService.importUsers(userImportRequestDto.getUsers());
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.USER_IMPORT_SUCCESS.getMessage(), result));
+    }
+}
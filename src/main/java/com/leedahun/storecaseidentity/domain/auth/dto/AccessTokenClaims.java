@@ -0,0 +1,19 @@
+package com.leedahun.storecaseidentity.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccessTokenClaims {
+    private LoginUser loginUser;
+    private String tokenId;
+    private String sessionId;
+    private long expiresAtMillis;
+}
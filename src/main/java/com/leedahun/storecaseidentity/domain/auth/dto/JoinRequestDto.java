@@ -16,6 +16,7 @@ import lombok.ToString;
 @AllArgsConstructor
 public class JoinRequestDto {
     private String email;
+    @ToString.Exclude
     private String password;
     private String name;
     private String phone;
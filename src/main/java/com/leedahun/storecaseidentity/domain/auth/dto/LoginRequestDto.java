@@ -15,5 +15,6 @@ import lombok.ToString;
 @AllArgsConstructor
 public class LoginRequestDto {
     private String email;
+    @ToString.Exclude
     private String password;
 }
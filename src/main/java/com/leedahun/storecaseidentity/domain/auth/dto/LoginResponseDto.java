@@ -14,6 +14,7 @@ public class LoginResponseDto {
     private String email;
     private String name;
     private Role role;
+    @ToString.Exclude
     private String accessToken;
 
     public static LoginResponseDto from(User user, String accessToken) {
@@ -21,6 +21,7 @@ public class LoginUser implements UserDetails {
 
     private Long id;
     private String username;
+    @ToString.Exclude
     private String password;
     private String role;
 
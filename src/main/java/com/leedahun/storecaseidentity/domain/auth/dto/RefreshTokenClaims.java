@@ -0,0 +1,21 @@
+package com.leedahun.storecaseidentity.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenClaims {
+    private Long userId;
+    private String role;
+    private String tokenId;
+    private String familyId;
+    // jti, fid 없이 발급된 이전 버전 토큰이면 true
+    private boolean legacy;
+}
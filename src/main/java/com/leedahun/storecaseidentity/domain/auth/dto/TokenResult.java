@@ -14,6 +14,8 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TokenResult {
+    @ToString.Exclude
     private String accessToken;
+    @ToString.Exclude
     private String refreshToken;
 }
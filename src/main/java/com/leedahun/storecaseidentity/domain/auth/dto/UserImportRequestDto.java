@@ -0,0 +1,16 @@
+package com.leedahun.storecaseidentity.domain.auth.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRequestDto {
+    private List<JoinRequestDto> users = new ArrayList<>();
+}
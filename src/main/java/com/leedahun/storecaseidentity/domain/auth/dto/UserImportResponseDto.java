@@ -0,0 +1,50 @@
+package com.leedahun.storecaseidentity.domain.auth.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class UserImportResponseDto {
+    private int requested;
+    private int imported;
+    private int skipped;
+    private int failed;
+    private long elapsedMillis;
+    private List<ChunkResult> chunks;
+    private List<Failure> failures;
+
+    public enum FailureReason {
+        INVALID, DUPLICATE_IN_REQUEST, ALREADY_EXISTS, HASH_FAILED, INSERT_FAILED, ABORTED
+    }
+
+    @Getter
+    @Builder
+    @ToString
+    @AllArgsConstructor
+    public static class ChunkResult {
+        private int index;
+        private int requested;
+        private int imported;
+        private int skipped;
+        private int failed;
+        private long hashMillis;
+        private long insertMillis;
+        private long usersPerSecond;
+    }
+
+    // index 는 요청 목록에서의 위치
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Failure {
+        private int index;
+        private String email;
+        private FailureReason reason;
+    }
+}
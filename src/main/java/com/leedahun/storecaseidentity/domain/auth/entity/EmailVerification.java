@@ -1,21 +1,26 @@
 package com.leedahun.storecaseidentity.domain.auth.entity;
 
 import com.leedahun.storecaseidentity.common.entity.BaseTimeEntity;
+import com.leedahun.storecaseidentity.common.id.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_email_verification_email_purpose_id", columnList = "email, purpose, id DESC"),
+        @Index(name = "idx_email_verification_expires_at", columnList = "expiresAt")
+})
 public class EmailVerification extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     private String email;
@@ -0,0 +1,57 @@
+package com.leedahun.storecaseidentity.domain.auth.entity;
+
+import com.leedahun.storecaseidentity.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 한 번으로 시작되는 refresh token 계보(family).
+ * 재발급할 때마다 tokenId 를 새 jti 로 바꾸므로, 현재 tokenId 가 아닌 jti 가 들어오면 이미 사용된 토큰이다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_family_user_id", columnList = "userId"),
+        @Index(name = "idx_refresh_token_family_expires_at", columnList = "expiresAt")
+})
+public class RefreshTokenFamily extends BaseTimeEntity implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String familyId;
+
+    private Long userId;
+
+    @Column(length = 36)
+    private String tokenId;
+
+    @Builder.Default
+    private Integer rotation = 0;
+
+    private LocalDateTime expiresAt;
+
+    @Builder.Default
+    private boolean revoked = false;
+
+    public boolean isActive(LocalDateTime now) {
+        return !revoked && expiresAt.isAfter(now);
+    }
+
+    @Override
+    public String getId() {
+        return familyId;
+    }
+
+    // id 를 직접 할당하므로 save 가 merge 전 SELECT 를 하지 않도록 저장 전 여부를 알려준다
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
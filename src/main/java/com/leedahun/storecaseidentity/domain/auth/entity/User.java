@@ -1,13 +1,13 @@
 package com.leedahun.storecaseidentity.domain.auth.entity;
 
 import com.leedahun.storecaseidentity.common.entity.BaseTimeEntity;
+import com.leedahun.storecaseidentity.common.id.TsidGenerated;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,11 +21,11 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "`user`")
+@Table(name = "`user`", indexes = @Index(name = "ux_user_email", columnList = "email", unique = true))
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @Column(length = 120)
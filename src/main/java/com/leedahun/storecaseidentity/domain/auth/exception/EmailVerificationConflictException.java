@@ -0,0 +1,12 @@
+package com.leedahun.storecaseidentity.domain.auth.exception;
+
+import com.leedahun.storecaseidentity.common.error.exception.CustomException;
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class EmailVerificationConflictException extends CustomException {
+
+    public EmailVerificationConflictException() {
+        super(ErrorMessage.EMAIL_VERIFICATION_CONFLICT.getMessage(), HttpStatus.CONFLICT);
+    }
+}
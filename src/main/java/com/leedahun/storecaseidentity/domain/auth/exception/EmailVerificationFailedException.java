@@ -0,0 +1,12 @@
+package com.leedahun.storecaseidentity.domain.auth.exception;
+
+import com.leedahun.storecaseidentity.common.error.exception.CustomException;
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class EmailVerificationFailedException extends CustomException {
+
+    public EmailVerificationFailedException() {
+        super(ErrorMessage.EMAIL_VERIFICATION_FAILED.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,12 @@
+package com.leedahun.storecaseidentity.domain.auth.exception;
+
+import com.leedahun.storecaseidentity.common.error.exception.RetryAfterException;
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class LoginLockedException extends RetryAfterException {
+
+    public LoginLockedException(long retryAfterSeconds) {
+        super(ErrorMessage.LOGIN_LOCKED.getMessage(), HttpStatus.LOCKED, retryAfterSeconds);
+    }
+}
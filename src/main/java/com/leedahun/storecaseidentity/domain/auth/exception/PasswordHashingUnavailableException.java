@@ -0,0 +1,12 @@
+package com.leedahun.storecaseidentity.domain.auth.exception;
+
+import com.leedahun.storecaseidentity.common.error.exception.CustomException;
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class PasswordHashingUnavailableException extends CustomException {
+
+    public PasswordHashingUnavailableException() {
+        super(ErrorMessage.PASSWORD_HASHING_UNAVAILABLE.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,12 @@
+package com.leedahun.storecaseidentity.domain.auth.exception;
+
+import com.leedahun.storecaseidentity.common.error.exception.RetryAfterException;
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class RateLimitExceededException extends RetryAfterException {
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorMessage.TOO_MANY_REQUESTS.getMessage(), HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,12 @@
+package com.leedahun.storecaseidentity.domain.auth.exception;
+
+import com.leedahun.storecaseidentity.common.error.exception.CustomException;
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class RefreshTokenReusedException extends CustomException {
+
+    public RefreshTokenReusedException() {
+        super(ErrorMessage.REFRESH_TOKEN_REUSED.getMessage(), HttpStatus.UNAUTHORIZED);
+    }
+}
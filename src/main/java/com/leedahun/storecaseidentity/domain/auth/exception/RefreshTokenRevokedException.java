@@ -0,0 +1,12 @@
+package com.leedahun.storecaseidentity.domain.auth.exception;
+
+import com.leedahun.storecaseidentity.common.error.exception.CustomException;
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class RefreshTokenRevokedException extends CustomException {
+
+    public RefreshTokenRevokedException() {
+        super(ErrorMessage.REFRESH_TOKEN_REVOKED.getMessage(), HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,11 @@
+package com.leedahun.storecaseidentity.domain.auth.exception;
+
+import com.leedahun.storecaseidentity.common.error.exception.CustomException;
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class UserImportLimitExceededException extends CustomException {
+    public UserImportLimitExceededException() {
+        super(ErrorMessage.USER_IMPORT_LIMIT_EXCEEDED.getMessage(), HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+}
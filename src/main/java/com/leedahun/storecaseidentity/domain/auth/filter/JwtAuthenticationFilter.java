@@ -0,0 +1,60 @@
+package com.leedahun.storecaseidentity.domain.auth.filter;
+
+import com.leedahun.storecaseidentity.common.error.exception.CustomException;
+import com.leedahun.storecaseidentity.domain.auth.constant.JwtConstants;
+import com.leedahun.storecaseidentity.domain.auth.dto.LoginUser;
+import com.leedahun.storecaseidentity.domain.auth.util.VerifiedTokenCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Authorization 헤더의 Bearer 토큰을 LoginUser principal 로 바꾼다.
+ * 토큰이 없거나 검증에 실패하면 인증 없이 다음 필터로 넘기고, 보호된 경로라면 AuthenticationEntryPoint 가 401 을 응답한다.
+ * 서블릿 필터로 중복 등록되지 않도록 빈으로 만들지 않고 SecurityConfig 에서 생성한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null) {
+            try {
+                authenticate(verifiedTokenCache.verify(token));
+            } catch (CustomException e) {
+                SecurityContextHolder.clearContext();
+                log.debug("Bearer token rejected. uri={}, reason={}", request.getRequestURI(), e.getMessage());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(JwtConstants.TOKEN_PREFIX)) {
+            return null;
+        }
+        String token = header.substring(JwtConstants.TOKEN_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private static void authenticate(LoginUser loginUser) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(loginUser, null, loginUser.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+    }
+}
@@ -0,0 +1,47 @@
+package com.leedahun.storecaseidentity.domain.auth.filter;
+
+import com.leedahun.storecaseidentity.domain.auth.exception.RateLimitExceededException;
+import com.leedahun.storecaseidentity.domain.auth.util.AuthRateLimiter;
+import com.leedahun.storecaseidentity.domain.auth.util.AuthenticationResponseUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * 제한 대상 엔드포인트의 POST 요청을 IP 기준으로 먼저 거른다.
+ * 프록시 뒤에서는 server.forward-headers-strategy 로 복원한 원격 주소를 사용한다.
+ * 경로는 컨트롤러 매핑과 같게 context path 를 뺀 디코딩한 경로로 비교하므로 %6Cogin 같은 인코딩으로 피할 수 없다.
+ * JwtAuthenticationFilter 와 같은 이유로 SecurityConfig 에서 생성한다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final AuthRateLimiter authRateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = HttpMethod.POST.matches(request.getMethod())
+                ? authRateLimiter.endpointFor(UrlPathHelper.defaultInstance.getPathWithinApplication(request))
+                : null;
+        if (endpoint != null) {
+            try {
+                authRateLimiter.checkIp(endpoint, request.getRemoteAddr());
+            } catch (RateLimitExceededException e) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+                AuthenticationResponseUtil.authenticateFail(response, HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -2,8 +2,15 @@ package com.leedahun.storecaseidentity.domain.auth.repository;
 
 import com.leedahun.storecaseidentity.domain.auth.entity.EmailPurpose;
 import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface EmailVerificationRepository extends JpaRepository<EmailVerification, Long> {
@@ -14,4 +21,111 @@ public interface EmailVerificationRepository extends JpaRepository<EmailVerifica
 
     Optional<EmailVerification> findTopByEmailAndPurposeOrderByIdDesc(String email, EmailPurpose purpose);
 
+    // MySQL 은 SET 절을 왼쪽부터 평가하며 앞에서 바꾼 값을 뒤에서 보기 때문에 attemptCount 는 마지막에 증가시킨다
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update EmailVerification v
+               set v.status = case when v.attemptCount + 1 >= :maxAttempts
+                                   then com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.LOCKED
+                                   else v.status end,
+                   v.lockedUntil = case when v.attemptCount + 1 >= :maxAttempts then :lockedUntil else v.lockedUntil end,
+                   v.attemptCount = v.attemptCount + 1
+             where v.id = :id
+               and v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.PENDING
+               and v.attemptCount < :maxAttempts
+            """)
+    int increaseAttemptCount(@Param("id") Long id,
+                             @Param("maxAttempts") int maxAttempts,
+                             @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update EmailVerification v
+               set v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.VERIFIED
+             where v.id = :id
+               and v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.PENDING
+               and v.code = :code
+               and v.attemptCount < :maxAttempts
+               and v.expiresAt > :now
+            """)
+    int verify(@Param("id") Long id,
+               @Param("code") String code,
+               @Param("maxAttempts") int maxAttempts,
+               @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update EmailVerification v
+               set v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.PENDING,
+                   v.attemptCount = 0,
+                   v.lockedUntil = null
+             where v.id = :id
+               and v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.LOCKED
+               and (v.lockedUntil is null or v.lockedUntil <= :now)
+            """)
+    int unlock(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update EmailVerification v
+               set v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.EXPIRED
+             where v.id = :id
+               and v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.PENDING
+               and v.expiresAt < :now
+            """)
+    int expire(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 조회한 뒤 다른 요청이 인증하거나 코드를 바꿨다면 반영하지 않는다
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update EmailVerification v
+               set v.code = :code,
+                   v.expiresAt = :expiresAt
+             where v.id = :id
+               and v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.PENDING
+               and v.code = :readCode
+            """)
+    int reissueCode(@Param("id") Long id,
+                    @Param("readCode") String readCode,
+                    @Param("code") String code,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update EmailVerification v
+               set v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.PENDING,
+                   v.code = :code,
+                   v.attemptCount = 0,
+                   v.lockedUntil = null
+             where v.id = :id
+               and v.status = com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus.LOCKED
+               and (v.lockedUntil is null or v.lockedUntil <= :now)
+            """)
+    int unlockWithCode(@Param("id") Long id, @Param("code") String code, @Param("now") LocalDateTime now);
+
+    // (expires_at) 인덱스로 만료 범위만 순서대로 훑고, locked_until 조건은 찾은 행을 읽어 확인한다 (커버링 아님)
+    @Query("""
+            select v.id from EmailVerification v
+             where v.expiresAt < :cutoff
+               and (v.lockedUntil is null or v.lockedUntil < :cutoff)
+             order by v.expiresAt
+            """)
+    List<Long> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 조회 이후 재발송 등으로 갱신된 행은 지우지 않도록 조건을 다시 확인한다
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from EmailVerification v
+             where v.id in :ids
+               and v.expiresAt < :cutoff
+               and (v.lockedUntil is null or v.lockedUntil < :cutoff)
+            """)
+    int deletePurgeable(@Param("ids") List<Long> ids, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,60 @@
+package com.leedahun.storecaseidentity.domain.auth.repository;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailPurpose;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 이메일 인증 상태 저장소. spring.mail.verification_store 로 구현체를 고른다.
+ * <ul>
+ *     <li>jpa: email_verification 테이블 (기본값)</li>
+ *     <li>memory: 인스턴스 로컬 메모리, 단일 인스턴스용</li>
+ *     <li>shared: Redis 같은 공유 key-value 저장소, 여러 인스턴스가 같은 상태를 본다</li>
+ * </ul>
+ * 메모리/공유 저장소는 (email, purpose) 마다 가장 최근(id 가 가장 큰) 인증 하나만 보관하고,
+ * 만료 또는 잠금 해제 시각에서 retention 이 지나면 삭제한다.
+ * <p>
+ * 상태를 바꾸는 메서드는 저장소에 있는 현재 값이 조건을 만족할 때만 원자적으로 반영하고, 반영 여부를 반환한다.
+ * 여러 요청이 같은 인증을 동시에 읽고 고쳐 써도 시도 횟수가 유실되거나 max_attempts 를 넘지 않는다.
+ */
+public interface EmailVerificationStore {
+
+    Optional<EmailVerification> findLatest(String email, EmailPurpose purpose);
+
+    /**
+     * 새 인증을 추가한다. 이미 있는 인증의 상태는 아래 조건부 메서드로만 바꾼다.
+     */
+    EmailVerification save(EmailVerification emailVerification);
+
+    /**
+     * PENDING 이고 시도 횟수가 maxAttempts 미만이면 1 증가시키고, maxAttempts 에 도달하면 lockedUntil 까지 잠근다.
+     */
+    boolean increaseAttemptCount(EmailVerification emailVerification, int maxAttempts, LocalDateTime lockedUntil);
+
+    /**
+     * PENDING 이고 코드가 일치하며 만료 전, 시도 횟수가 maxAttempts 미만일 때만 VERIFIED 로 바꾼다.
+     */
+    boolean verify(EmailVerification emailVerification, String code, int maxAttempts, LocalDateTime now);
+
+    /**
+     * LOCKED 이고 잠금 시간이 지났으면 PENDING 으로 되돌리고 시도 횟수를 초기화한다.
+     */
+    boolean unlock(EmailVerification emailVerification, LocalDateTime now);
+
+    /**
+     * PENDING 이고 만료 시각이 지났으면 EXPIRED 로 바꾼다.
+     */
+    boolean expire(EmailVerification emailVerification, LocalDateTime now);
+
+    /**
+     * PENDING 이고 코드가 조회했을 때와 같으면 새 코드와 만료 시각으로 바꾼다. 시도 횟수는 유지한다.
+     */
+    boolean reissueCode(EmailVerification emailVerification, String code, LocalDateTime expiresAt);
+
+    /**
+     * LOCKED 이고 잠금 시간이 지났으면 새 코드로 PENDING 으로 되돌리고 시도 횟수를 초기화한다.
+     */
+    boolean unlockWithCode(EmailVerification emailVerification, String code, LocalDateTime now);
+}
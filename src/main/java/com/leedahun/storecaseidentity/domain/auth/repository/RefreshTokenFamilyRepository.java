@@ -0,0 +1,42 @@
+package com.leedahun.storecaseidentity.domain.auth.repository;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.RefreshTokenFamily;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, String> {
+
+    // PK 한 건을 조건부로 갱신하므로 조회와 교체가 한 번의 왕복으로 끝난다
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update RefreshTokenFamily f
+               set f.tokenId = :nextTokenId,
+                   f.expiresAt = :expiresAt,
+                   f.rotation = f.rotation + 1
+             where f.familyId = :familyId
+               and f.tokenId = :tokenId
+               and f.revoked = false
+               and f.expiresAt > :now
+            """)
+    int rotate(@Param("familyId") String familyId,
+               @Param("tokenId") String tokenId,
+               @Param("nextTokenId") String nextTokenId,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshTokenFamily f set f.revoked = true where f.familyId = :familyId")
+    int revoke(@Param("familyId") String familyId);
+
+    @Query("select f.familyId from RefreshTokenFamily f where f.expiresAt < :cutoff")
+    List<String> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
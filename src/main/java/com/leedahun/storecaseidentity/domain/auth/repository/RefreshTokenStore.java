@@ -0,0 +1,28 @@
+package com.leedahun.storecaseidentity.domain.auth.repository;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.RefreshTokenFamily;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * refresh token family 저장소. jwt.refresh_store 로 구현체를 고른다.
+ * <ul>
+ *     <li>jpa: refresh_token_family 테이블 (기본값)</li>
+ *     <li>memory: 인스턴스 로컬 메모리, jwt.refresh_store_max_entries 개까지만 보관</li>
+ * </ul>
+ * 재발급 시 토큰 확인은 familyId 한 건 조회(해시 또는 PK)로 끝나며, access token 검증에는 관여하지 않는다.
+ */
+public interface RefreshTokenStore {
+
+    void save(RefreshTokenFamily family);
+
+    Optional<RefreshTokenFamily> find(String familyId);
+
+    /**
+     * 폐기되지 않았고 만료 전이며 현재 tokenId 가 일치할 때만 nextTokenId 로 교체한다.
+     */
+    boolean rotate(String familyId, String tokenId, String nextTokenId, LocalDateTime expiresAt, LocalDateTime now);
+
+    void revoke(String familyId);
+}
@@ -0,0 +1,19 @@
+package com.leedahun.storecaseidentity.domain.auth.repository;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 일괄 등록용 저장소. JPA 의 persist 를 거치지 않고 JDBC batch 로 한 번에 insert 한다.
+ * MySQL 에서는 rewriteBatchedStatements=true 여야 batch 가 multi-row INSERT 한 문장으로 전송된다.
+ */
+public interface UserBatchRepository {
+
+    /**
+     * 호출한 쪽의 트랜잭션 안에서 모두 insert 하고 insert 한 건수를 반환한다.
+     * 하나라도 실패하면 예외가 발생하므로 트랜잭션을 롤백해야 한다.
+     */
+    int insertAll(List<User> users, LocalDateTime now);
+}
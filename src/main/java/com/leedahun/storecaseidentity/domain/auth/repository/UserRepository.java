@@ -1,9 +1,27 @@
 package com.leedahun.storecaseidentity.domain.auth.repository;
 
 import com.leedahun.storecaseidentity.domain.auth.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // 일괄 등록에서 chunk 마다 한 번의 IN 조회로 이미 가입된 이메일을 거른다 (ux_user_email 인덱스)
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePassword(@Param("id") Long id,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,24 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+
+import java.time.LocalDateTime;
+
+final class EmailVerificationRetention {
+
+    private EmailVerificationRetention() {
+    }
+
+    // 만료 시각과 잠금 해제 시각 중 늦은 쪽에서 retention 만큼 더 보관한다
+    static LocalDateTime retainUntil(EmailVerification emailVerification, long retentionMinutes, LocalDateTime now) {
+        LocalDateTime until = emailVerification.getExpiresAt();
+        LocalDateTime lockedUntil = emailVerification.getLockedUntil();
+        if (until == null || (lockedUntil != null && lockedUntil.isAfter(until))) {
+            until = lockedUntil;
+        }
+        if (until == null) {
+            until = now;
+        }
+        return until.plusMinutes(retentionMinutes);
+    }
+}
@@ -0,0 +1,72 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 메모리/공유 저장소에서 EmailVerificationRepository 의 조건부 UPDATE 와 같은 상태 전이를 표현한다.
+ * condition 은 저장소의 현재 값으로 평가하고, 만족할 때만 change 를 적용한다.
+ */
+record EmailVerificationTransition(Predicate<EmailVerification> condition, Consumer<EmailVerification> change) {
+
+    static EmailVerificationTransition increaseAttemptCount(int maxAttempts, LocalDateTime lockedUntil) {
+        return new EmailVerificationTransition(
+                v -> v.getStatus() == EmailVerifyStatus.PENDING && v.getAttemptCount() < maxAttempts,
+                v -> {
+                    v.increaseAttemptCount();
+                    if (v.getAttemptCount() >= maxAttempts) {
+                        v.updateStatus(EmailVerifyStatus.LOCKED);
+                        v.updateLockedUntil(lockedUntil);
+                    }
+                });
+    }
+
+    static EmailVerificationTransition verify(String code, int maxAttempts, LocalDateTime now) {
+        return new EmailVerificationTransition(
+                v -> v.getStatus() == EmailVerifyStatus.PENDING
+                        && v.getCode().equals(code)
+                        && v.getAttemptCount() < maxAttempts
+                        && v.getExpiresAt().isAfter(now),
+                v -> v.updateStatus(EmailVerifyStatus.VERIFIED));
+    }
+
+    static EmailVerificationTransition unlock(LocalDateTime now) {
+        return new EmailVerificationTransition(
+                v -> v.getStatus() == EmailVerifyStatus.LOCKED
+                        && (v.getLockedUntil() == null || !v.getLockedUntil().isAfter(now)),
+                v -> {
+                    v.updateStatus(EmailVerifyStatus.PENDING);
+                    v.resetAttemptCount();
+                    v.clearLockedUntil();
+                });
+    }
+
+    static EmailVerificationTransition expire(LocalDateTime now) {
+        return new EmailVerificationTransition(
+                v -> v.getStatus() == EmailVerifyStatus.PENDING && v.getExpiresAt().isBefore(now),
+                v -> v.updateStatus(EmailVerifyStatus.EXPIRED));
+    }
+
+    static EmailVerificationTransition reissueCode(String readCode, String code, LocalDateTime expiresAt) {
+        return new EmailVerificationTransition(
+                v -> v.getStatus() == EmailVerifyStatus.PENDING && Objects.equals(v.getCode(), readCode),
+                v -> {
+                    v.updateCode(code);
+                    v.resetExpiresAt(expiresAt);
+                });
+    }
+
+    static EmailVerificationTransition unlockWithCode(String code, LocalDateTime now) {
+        EmailVerificationTransition unlock = unlock(now);
+        return new EmailVerificationTransition(unlock.condition(), unlock.change().andThen(v -> v.updateCode(code)));
+    }
+
+    boolean applicableTo(EmailVerification current, EmailVerification target) {
+        return current.getId().equals(target.getId()) && condition.test(current);
+    }
+}
@@ -0,0 +1,132 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailPurpose;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (email, purpose) 를 키로 인스턴스 메모리에 인증 상태를 보관한다.
+ * JPA 의 detached 엔티티처럼 저장/조회 시 복사본을 주고받아 호출자가 바꾼 값이 save 전에 보이지 않게 한다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "spring.mail.verification_store", havingValue = "memory")
+public class InMemoryEmailVerificationStore implements EmailVerificationStore {
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final long retentionMinutes;
+    private final Clock clock;
+
+    public InMemoryEmailVerificationStore(@Value("${spring.mail.verification_retention_minutes:60}") long retentionMinutes,
+                                          Clock clock) {
+        this.retentionMinutes = retentionMinutes;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<EmailVerification> findLatest(String email, EmailPurpose purpose) {
+        Key key = new Key(email, purpose);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expired(LocalDateTime.now(clock))) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.emailVerification().toBuilder().build());
+    }
+
+    @Override
+    public EmailVerification save(EmailVerification emailVerification) {
+        EmailVerification saved = emailVerification.getId() == null
+                ? emailVerification.toBuilder().id(sequence.incrementAndGet()).build()
+                : emailVerification.toBuilder().build();
+        Entry entry = new Entry(saved, EmailVerificationRetention.retainUntil(saved, retentionMinutes, LocalDateTime.now(clock)));
+
+        // 새 인증만 추가한다. 같은 인증을 다시 save 해도 그 사이 조건부 갱신으로 바뀐 상태를 덮어쓰지 않는다
+        entries.merge(new Key(saved.getEmail(), saved.getPurpose()), entry,
+                (current, candidate) -> current.emailVerification().getId() >= candidate.emailVerification().getId() ? current : candidate);
+        return saved.toBuilder().build();
+    }
+
+    @Override
+    public boolean increaseAttemptCount(EmailVerification emailVerification, int maxAttempts, LocalDateTime lockedUntil) {
+        return apply(emailVerification, EmailVerificationTransition.increaseAttemptCount(maxAttempts, lockedUntil));
+    }
+
+    @Override
+    public boolean verify(EmailVerification emailVerification, String code, int maxAttempts, LocalDateTime now) {
+        return apply(emailVerification, EmailVerificationTransition.verify(code, maxAttempts, now));
+    }
+
+    @Override
+    public boolean unlock(EmailVerification emailVerification, LocalDateTime now) {
+        return apply(emailVerification, EmailVerificationTransition.unlock(now));
+    }
+
+    @Override
+    public boolean expire(EmailVerification emailVerification, LocalDateTime now) {
+        return apply(emailVerification, EmailVerificationTransition.expire(now));
+    }
+
+    @Override
+    public boolean reissueCode(EmailVerification emailVerification, String code, LocalDateTime expiresAt) {
+        return apply(emailVerification, EmailVerificationTransition.reissueCode(emailVerification.getCode(), code, expiresAt));
+    }
+
+    @Override
+    public boolean unlockWithCode(EmailVerification emailVerification, String code, LocalDateTime now) {
+        return apply(emailVerification, EmailVerificationTransition.unlockWithCode(code, now));
+    }
+
+    // compute 는 키 단위로 원자적이므로 조건 확인과 변경 사이에 다른 요청이 끼어들지 못한다
+    private boolean apply(EmailVerification target, EmailVerificationTransition transition) {
+        AtomicBoolean applied = new AtomicBoolean();
+        entries.computeIfPresent(new Key(target.getEmail(), target.getPurpose()), (key, current) -> {
+            if (!transition.applicableTo(current.emailVerification(), target)) {
+                return current;
+            }
+            EmailVerification changed = current.emailVerification().toBuilder().build();
+            transition.change().accept(changed);
+            applied.set(true);
+            return new Entry(changed, EmailVerificationRetention.retainUntil(changed, retentionMinutes, LocalDateTime.now(clock)));
+        });
+        return applied.get();
+    }
+
+    @Scheduled(fixedDelayString = "${spring.mail.verification_sweep_millis:60000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expired(now));
+        log.debug("Evicted expired email verifications. evicted={}, remaining={}", before - entries.size(), entries.size());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private record Key(String email, EmailPurpose purpose) {
+    }
+
+    private record Entry(EmailVerification emailVerification, LocalDateTime retainUntil) {
+
+        boolean expired(LocalDateTime now) {
+            return retainUntil.isBefore(now);
+        }
+    }
+}
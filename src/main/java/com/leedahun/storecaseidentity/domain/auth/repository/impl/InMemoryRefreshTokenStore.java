@@ -0,0 +1,130 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.RefreshTokenFamily;
+import com.leedahun.storecaseidentity.domain.auth.repository.RefreshTokenStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * familyId 를 키로 인스턴스 메모리에 family 를 보관한다. 단일 인스턴스용.
+ * maxEntries 를 넘으면 만료된 family 부터, 그래도 부족하면 가장 먼저 만료될 family 부터 내보낸다.
+ * 만료 시각 순으로 정렬한 색인을 함께 유지해 내보낼 family 를 전체를 훑지 않고 앞에서부터 꺼낸다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "jwt.refresh_store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final ConcurrentHashMap<String, RefreshTokenFamily> families = new ConcurrentHashMap<>();
+    // families 의 값이 바뀔 때 같은 compute 안에서 함께 갱신한다
+    private final ConcurrentSkipListSet<Expiry> expiryIndex = new ConcurrentSkipListSet<>();
+    private final int maxEntries;
+    private final Clock clock;
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh_store_max_entries:100000}") int maxEntries,
+                                     Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(RefreshTokenFamily family) {
+        if (families.size() >= maxEntries && !families.containsKey(family.getFamilyId())) {
+            makeRoom();
+        }
+        families.compute(family.getFamilyId(), (id, current) -> {
+            if (current != null) {
+                expiryIndex.remove(Expiry.of(current));
+            }
+            expiryIndex.add(Expiry.of(family));
+            return family;
+        });
+    }
+
+    @Override
+    public Optional<RefreshTokenFamily> find(String familyId) {
+        return Optional.ofNullable(families.get(familyId));
+    }
+
+    // compute 는 키 단위로 원자적이므로 같은 토큰으로 동시에 재발급해도 한 요청만 성공한다
+    @Override
+    public boolean rotate(String familyId, String tokenId, String nextTokenId, LocalDateTime expiresAt, LocalDateTime now) {
+        AtomicBoolean rotated = new AtomicBoolean();
+        families.computeIfPresent(familyId, (id, current) -> {
+            if (!current.isActive(now) || !current.getTokenId().equals(tokenId)) {
+                return current;
+            }
+            rotated.set(true);
+            RefreshTokenFamily next = current.toBuilder()
+                    .tokenId(nextTokenId)
+                    .expiresAt(expiresAt)
+                    .rotation(current.getRotation() + 1)
+                    .build();
+            expiryIndex.remove(Expiry.of(current));
+            expiryIndex.add(Expiry.of(next));
+            return next;
+        });
+        return rotated.get();
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        families.computeIfPresent(familyId, (id, current) -> current.toBuilder().revoked(true).build());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh_store_purge_millis:3600000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Expiry expiry : expiryIndex) {
+            if (expiry.expiresAt().isAfter(now)) {
+                return;
+            }
+            evict(expiry);
+        }
+    }
+
+    private void makeRoom() {
+        evictExpired();
+        Expiry earliest;
+        while (families.size() >= maxEntries && (earliest = expiryIndex.pollFirst()) != null) {
+            evict(earliest);
+            log.debug("Refresh token store is full, evicted familyId={}", earliest.familyId());
+        }
+    }
+
+    // 색인을 읽은 뒤 회전으로 만료 시각이 바뀐 family 는 내보내지 않는다
+    private void evict(Expiry expiry) {
+        families.computeIfPresent(expiry.familyId(), (id, current) -> Expiry.of(current).equals(expiry) ? null : current);
+        expiryIndex.remove(expiry);
+    }
+
+    int size() {
+        return families.size();
+    }
+
+    private record Expiry(LocalDateTime expiresAt, String familyId) implements Comparable<Expiry> {
+
+        private static final Comparator<Expiry> ORDER = Comparator.comparing(Expiry::expiresAt)
+                .thenComparing(Expiry::familyId);
+
+        static Expiry of(RefreshTokenFamily family) {
+            return new Expiry(family.getExpiresAt(), family.getFamilyId());
+        }
+
+        @Override
+        public int compareTo(Expiry other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import com.leedahun.storecaseidentity.common.id.Tsid;
+import com.leedahun.storecaseidentity.domain.auth.entity.User;
+import com.leedahun.storecaseidentity.domain.auth.repository.UserBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcUserBatchRepository implements UserBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO `user` (id, email, password, name, phone, is_withdraw, is_social, sns_type, role, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<User> users, LocalDateTime now) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        // User 엔티티의 @TsidGenerated 와 같은 생성기로 id 를 채운다
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setLong(1, Tsid.next());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getPassword());
+            ps.setString(4, user.getName());
+            ps.setString(5, user.getPhone());
+            ps.setBoolean(6, user.isWithdraw());
+            ps.setBoolean(7, user.isSocial());
+            if (user.getSnsType() == null) {
+                ps.setNull(8, Types.VARCHAR);
+            } else {
+                ps.setString(8, user.getSnsType());
+            }
+            ps.setString(9, user.getRole().name());
+            ps.setTimestamp(10, timestamp);
+            ps.setTimestamp(11, timestamp);
+        });
+        // rewriteBatchedStatements 를 켜면 드라이버가 행별 건수 대신 SUCCESS_NO_INFO 를 돌려주므로 예외가 없으면 모두 들어간 것으로 본다
+        return users.size();
+    }
+}
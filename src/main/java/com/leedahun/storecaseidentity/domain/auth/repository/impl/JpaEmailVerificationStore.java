@@ -0,0 +1,60 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailPurpose;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationRepository;
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.mail.verification_store", havingValue = "jpa", matchIfMissing = true)
+public class JpaEmailVerificationStore implements EmailVerificationStore {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+
+    @Override
+    public Optional<EmailVerification> findLatest(String email, EmailPurpose purpose) {
+        return emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(email, purpose);
+    }
+
+    @Override
+    public EmailVerification save(EmailVerification emailVerification) {
+        return emailVerificationRepository.save(emailVerification);
+    }
+
+    @Override
+    public boolean increaseAttemptCount(EmailVerification emailVerification, int maxAttempts, LocalDateTime lockedUntil) {
+        return emailVerificationRepository.increaseAttemptCount(emailVerification.getId(), maxAttempts, lockedUntil) == 1;
+    }
+
+    @Override
+    public boolean verify(EmailVerification emailVerification, String code, int maxAttempts, LocalDateTime now) {
+        return emailVerificationRepository.verify(emailVerification.getId(), code, maxAttempts, now) == 1;
+    }
+
+    @Override
+    public boolean unlock(EmailVerification emailVerification, LocalDateTime now) {
+        return emailVerificationRepository.unlock(emailVerification.getId(), now) == 1;
+    }
+
+    @Override
+    public boolean expire(EmailVerification emailVerification, LocalDateTime now) {
+        return emailVerificationRepository.expire(emailVerification.getId(), now) == 1;
+    }
+
+    @Override
+    public boolean reissueCode(EmailVerification emailVerification, String code, LocalDateTime expiresAt) {
+        return emailVerificationRepository.reissueCode(emailVerification.getId(), emailVerification.getCode(), code, expiresAt) == 1;
+    }
+
+    @Override
+    public boolean unlockWithCode(EmailVerification emailVerification, String code, LocalDateTime now) {
+        return emailVerificationRepository.unlockWithCode(emailVerification.getId(), code, now) == 1;
+    }
+}
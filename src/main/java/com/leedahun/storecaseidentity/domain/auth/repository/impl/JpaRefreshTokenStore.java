@@ -0,0 +1,64 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.RefreshTokenFamily;
+import com.leedahun.storecaseidentity.domain.auth.repository.RefreshTokenFamilyRepository;
+import com.leedahun.storecaseidentity.domain.auth.repository.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh_store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int PURGE_BATCH_SIZE = 500;
+
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final Clock clock;
+
+    @Override
+    public void save(RefreshTokenFamily family) {
+        refreshTokenFamilyRepository.save(family);
+    }
+
+    @Override
+    public Optional<RefreshTokenFamily> find(String familyId) {
+        return refreshTokenFamilyRepository.findById(familyId);
+    }
+
+    @Override
+    public boolean rotate(String familyId, String tokenId, String nextTokenId, LocalDateTime expiresAt, LocalDateTime now) {
+        return refreshTokenFamilyRepository.rotate(familyId, tokenId, nextTokenId, expiresAt, now) == 1;
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        refreshTokenFamilyRepository.revoke(familyId);
+    }
+
+    // 만료된 family 의 토큰은 JWT 검증에서 이미 걸러지므로 짧은 배치로 나눠 지운다
+    @Scheduled(fixedDelayString = "${jwt.refresh_store_purge_millis:3600000}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(clock);
+        int deleted = 0;
+        List<String> ids;
+        do {
+            ids = refreshTokenFamilyRepository.findExpiredIds(cutoff, PageRequest.of(0, PURGE_BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                refreshTokenFamilyRepository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == PURGE_BATCH_SIZE);
+        log.debug("Purged expired refresh token families. deleted={}", deleted);
+    }
+}
@@ -0,0 +1,180 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.storecaseidentity.common.store.SharedKeyValueStore;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailPurpose;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * SharedKeyValueStore 에 인증 상태를 JSON 으로 저장해 여러 인스턴스가 같은 상태를 보게 한다.
+ * 키는 email-verification:{purpose}:{email} 이고, save 는 compareAndSet 으로 더 새로운(id 가 큰) 인증일 때만 기록한다.
+ * 같은 인증을 다시 save 해도 그 사이 다른 인스턴스가 조건부로 바꾼 상태를 덮어쓰지 않는다.
+ */
+@Repository
+@ConditionalOnProperty(name = "spring.mail.verification_store", havingValue = "shared")
+public class SharedEmailVerificationStore implements EmailVerificationStore {
+
+    private static final String KEY_PREFIX = "email-verification:";
+    private static final String SEQUENCE_KEY = KEY_PREFIX + "sequence";
+
+    private final SharedKeyValueStore sharedKeyValueStore;
+    private final ObjectMapper objectMapper;
+    private final long retentionMinutes;
+    private final Clock clock;
+
+    public SharedEmailVerificationStore(SharedKeyValueStore sharedKeyValueStore,
+                                        ObjectMapper objectMapper,
+                                        @Value("${spring.mail.verification_retention_minutes:60}") long retentionMinutes,
+                                        Clock clock) {
+        this.sharedKeyValueStore = sharedKeyValueStore;
+        this.objectMapper = objectMapper;
+        this.retentionMinutes = retentionMinutes;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<EmailVerification> findLatest(String email, EmailPurpose purpose) {
+        return sharedKeyValueStore.get(key(email, purpose))
+                .map(this::decode);
+    }
+
+    @Override
+    public EmailVerification save(EmailVerification emailVerification) {
+        EmailVerification saved = emailVerification.getId() == null
+                ? emailVerification.toBuilder().id(sharedKeyValueStore.increment(SEQUENCE_KEY)).build()
+                : emailVerification;
+        String key = key(saved.getEmail(), saved.getPurpose());
+        String value = encode(saved);
+        Duration ttl = ttl(saved);
+
+        while (true) {
+            Optional<String> current = sharedKeyValueStore.get(key);
+            if (current.isPresent() && decode(current.get()).getId() >= saved.getId()) {
+                return saved;
+            }
+            if (sharedKeyValueStore.compareAndSet(key, current.orElse(null), value, ttl)) {
+                return saved;
+            }
+        }
+    }
+
+    @Override
+    public boolean increaseAttemptCount(EmailVerification emailVerification, int maxAttempts, LocalDateTime lockedUntil) {
+        return apply(emailVerification, EmailVerificationTransition.increaseAttemptCount(maxAttempts, lockedUntil));
+    }
+
+    @Override
+    public boolean verify(EmailVerification emailVerification, String code, int maxAttempts, LocalDateTime now) {
+        return apply(emailVerification, EmailVerificationTransition.verify(code, maxAttempts, now));
+    }
+
+    @Override
+    public boolean unlock(EmailVerification emailVerification, LocalDateTime now) {
+        return apply(emailVerification, EmailVerificationTransition.unlock(now));
+    }
+
+    @Override
+    public boolean expire(EmailVerification emailVerification, LocalDateTime now) {
+        return apply(emailVerification, EmailVerificationTransition.expire(now));
+    }
+
+    @Override
+    public boolean reissueCode(EmailVerification emailVerification, String code, LocalDateTime expiresAt) {
+        return apply(emailVerification, EmailVerificationTransition.reissueCode(emailVerification.getCode(), code, expiresAt));
+    }
+
+    @Override
+    public boolean unlockWithCode(EmailVerification emailVerification, String code, LocalDateTime now) {
+        return apply(emailVerification, EmailVerificationTransition.unlockWithCode(code, now));
+    }
+
+    // 읽은 값이 그 사이 바뀌었다면 compareAndSet 이 실패하므로 다시 읽어 조건부터 확인한다
+    private boolean apply(EmailVerification target, EmailVerificationTransition transition) {
+        String key = key(target.getEmail(), target.getPurpose());
+        while (true) {
+            Optional<String> current = sharedKeyValueStore.get(key);
+            if (current.isEmpty()) {
+                return false;
+            }
+            EmailVerification changed = decode(current.get());
+            if (!transition.applicableTo(changed, target)) {
+                return false;
+            }
+            transition.change().accept(changed);
+            if (sharedKeyValueStore.compareAndSet(key, current.get(), encode(changed), ttl(changed))) {
+                return true;
+            }
+        }
+    }
+
+    private Duration ttl(EmailVerification emailVerification) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return Duration.between(now, EmailVerificationRetention.retainUntil(emailVerification, retentionMinutes, now));
+    }
+
+    private static String key(String email, EmailPurpose purpose) {
+        return KEY_PREFIX + purpose.name() + ":" + email;
+    }
+
+    private String encode(EmailVerification emailVerification) {
+        try {
+            return objectMapper.writeValueAsString(Snapshot.from(emailVerification));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize email verification", e);
+        }
+    }
+
+    private EmailVerification decode(String value) {
+        try {
+            return objectMapper.readValue(value, Snapshot.class).toEntity();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize email verification", e);
+        }
+    }
+
+    private record Snapshot(Long id,
+                            String email,
+                            EmailPurpose purpose,
+                            String code,
+                            LocalDateTime expiresAt,
+                            Integer attemptCount,
+                            EmailVerifyStatus status,
+                            LocalDateTime lockedUntil) {
+
+        static Snapshot from(EmailVerification emailVerification) {
+            return new Snapshot(
+                    emailVerification.getId(),
+                    emailVerification.getEmail(),
+                    emailVerification.getPurpose(),
+                    emailVerification.getCode(),
+                    emailVerification.getExpiresAt(),
+                    emailVerification.getAttemptCount(),
+                    emailVerification.getStatus(),
+                    emailVerification.getLockedUntil());
+        }
+
+        EmailVerification toEntity() {
+            return EmailVerification.builder()
+                    .id(id)
+                    .email(email)
+                    .purpose(purpose)
+                    .code(code)
+                    .expiresAt(expiresAt)
+                    .attemptCount(attemptCount)
+                    .status(status)
+                    .lockedUntil(lockedUntil)
+                    .build();
+        }
+    }
+}
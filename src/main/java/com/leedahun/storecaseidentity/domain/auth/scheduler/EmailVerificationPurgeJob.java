@@ -0,0 +1,111 @@
+package com.leedahun.storecaseidentity.domain.auth.scheduler;
+
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 만료(또는 잠금 해제)된 지 retention_hours 가 지난 email_verification 행을 batch_size 씩 삭제한다.
+ * batch 마다 별도의 짧은 트랜잭션에서 id 로 지우기 때문에 verifyEmailCode 가 읽고 쓰는 최신 행을 오래 잠그지 않는다.
+ * 메모리/공유 저장소는 TTL 로 정리되므로 jpa 저장소일 때만 동작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.mail.verification_store", havingValue = "jpa", matchIfMissing = true)
+public class EmailVerificationPurgeJob {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final long retentionHours;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMillis;
+
+    private final Counter purgedCounter;
+    private final Timer purgeTimer;
+
+    public EmailVerificationPurgeJob(EmailVerificationRepository emailVerificationRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     Clock clock,
+                                     @Value("${spring.mail.purge.retention_hours:24}") long retentionHours,
+                                     @Value("${spring.mail.purge.batch_size:500}") int batchSize,
+                                     @Value("${spring.mail.purge.max_batches:100}") int maxBatches,
+                                     @Value("${spring.mail.purge.pause_millis:50}") long pauseMillis) {
+        this.emailVerificationRepository = emailVerificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.retentionHours = retentionHours;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMillis = pauseMillis;
+
+        this.purgedCounter = Counter.builder("auth.email_verification.purged")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("auth.email_verification.purge")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.mail.purge.interval_millis:600000}",
+            initialDelayString = "${spring.mail.purge.interval_millis:600000}")
+    public void purge() {
+        Timer.Sample sample = Timer.start();
+        try {
+            purgeExpired();
+        } finally {
+            sample.stop(purgeTimer);
+        }
+    }
+
+    int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusHours(retentionHours);
+        int purged = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = emailVerificationRepository.findPurgeableIds(cutoff, PageRequest.of(0, batchSize));
+                return ids.isEmpty() ? 0 : emailVerificationRepository.deletePurgeable(ids, cutoff);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            purged += deleted;
+            purgedCounter.increment(deleted);
+            if (deleted < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("Purged expired email verifications. purged={}, cutoff={}", purged, cutoff);
+        }
+        return purged;
+    }
+
+    // batch 사이에 잠깐 쉬어 복제 지연과 다른 트랜잭션의 대기를 줄인다
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
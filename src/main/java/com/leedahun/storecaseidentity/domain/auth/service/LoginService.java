@@ -4,8 +4,10 @@ import com.leedahun.storecaseidentity.domain.auth.dto.*;
 
 public interface LoginService {
 
-    LoginResult login(LoginRequestDto loginRequestDto);
+    LoginResult login(LoginRequestDto loginRequestDto, String clientIp);
 
     TokenResult reissueTokens(String refreshToken);
 
+    void logout(String refreshToken);
+
 }
@@ -0,0 +1,12 @@
+package com.leedahun.storecaseidentity.domain.auth.service;
+
+import com.leedahun.storecaseidentity.domain.auth.dto.JoinRequestDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto;
+
+import java.util.List;
+
+public interface UserImportService {
+
+    UserImportResponseDto importUsers(List<JoinRequestDto> users);
+
+}
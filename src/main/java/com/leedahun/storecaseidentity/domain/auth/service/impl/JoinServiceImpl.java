@@ -1,7 +1,7 @@
 package com.leedahun.storecaseidentity.domain.auth.service.impl;
 
 import com.leedahun.storecaseidentity.common.error.exception.EntityNotFoundException;
-import com.leedahun.storecaseidentity.common.mail.EmailClient;
+import com.leedahun.storecaseidentity.common.mail.EmailDispatcher;
 import com.leedahun.storecaseidentity.domain.auth.dto.EmailVerificationConfirmRequestDto;
 import com.leedahun.storecaseidentity.domain.auth.dto.EmailVerificationConfirmResponseDto;
 import com.leedahun.storecaseidentity.domain.auth.dto.JoinRequestDto;
@@ -11,24 +11,27 @@ import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
 import com.leedahun.storecaseidentity.domain.auth.entity.User;
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationAlreadyDoneException;
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationAttemptLimitExceededException;
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationConflictException;
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationExpiredException;
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationFailedException;
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationLockedException;
 import com.leedahun.storecaseidentity.domain.auth.exception.UserAlreadyExistsException;
-import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationRepository;
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationStore;
 import com.leedahun.storecaseidentity.domain.auth.repository.UserRepository;
 import com.leedahun.storecaseidentity.domain.auth.service.JoinService;
 import com.leedahun.storecaseidentity.domain.auth.util.VerificationCodeUtil;
+import com.leedahun.storecaseidentity.domain.auth.util.VerificationEmailRenderer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.Year;
 import java.util.Optional;
 
 @Slf4j
@@ -47,12 +50,14 @@ public class JoinServiceImpl implements JoinService {
     private int maxAttempts;
 
     private static final String SUBJECT = "[StoreCase] 회원가입을 위한 이메일 인증번호입니다.";
+    private static final int MAX_REISSUE_ATTEMPTS = 3;
 
-    private final EmailVerificationRepository emailVerificationRepository;
+    private final EmailVerificationStore emailVerificationStore;
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
-    private final SpringTemplateEngine templateEngine;
-    private final EmailClient emailClient;
+    private final VerificationEmailRenderer verificationEmailRenderer;
+    private final EmailDispatcher emailDispatcher;
+    private final Clock clock;
 
     @Override
     @Transactional
@@ -63,74 +68,64 @@ public class JoinServiceImpl implements JoinService {
                 });
 
         User user = joinRequestDto.toEntity(passwordEncoder.encode(joinRequestDto.getPassword()));
-        userRepository.save(user);
+        try {
+            // id 를 미리 정하는 엔티티라 save 만으로는 커밋 시점에 insert 되므로, 여기서 flush 해 위반을 잡는다
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 이메일로 가입한 경우 ux_user_email 에서 걸러진다
+            throw new UserAlreadyExistsException();
+        }
     }
 
+    /**
+     * 조건부 갱신이 반영되지 않으면 다른 트랜잭션이 커밋한 최신 상태를 다시 읽어야 하므로 READ_COMMITTED 로 실행한다.
+     * REPEATABLE READ 에서는 같은 스냅샷을 다시 읽어 매번 같은 이유로 실패한다.
+     */
     @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void sendJoinEmail(String email) {
         String code = VerificationCodeUtil.generateEmailVerificationCode();
-        final LocalDateTime now = LocalDateTime.now();
-
-        Optional<EmailVerification> optionalEmailVerification = emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(email, EmailPurpose.SIGNUP);
-        if (optionalEmailVerification.isPresent()) {
-            handleExistingEmailVerification(optionalEmailVerification.get(), code, now);
-            return;
+        final LocalDateTime now = LocalDateTime.now(clock);
+
+        // 조회한 뒤 다른 요청이 먼저 상태를 바꿨다면 조건부 갱신이 반영되지 않으므로 다시 읽어 판단한다
+        for (int attempt = 0; attempt < MAX_REISSUE_ATTEMPTS; attempt++) {
+            Optional<EmailVerification> optionalEmailVerification = emailVerificationStore.findLatest(email, EmailPurpose.SIGNUP);
+            if (optionalEmailVerification.isEmpty()) {
+                saveNewEmailVerification(email, code, now);
+                sendJoinEmailVerificationEmail(email, code);
+                return;
+            }
+            if (reissueEmailVerification(optionalEmailVerification.get(), code, now)) {
+                sendJoinEmailVerificationEmail(email, code);
+                return;
+            }
         }
-
-        saveNewEmailVerification(email, code, now);
-        sendJoinEmailVerificationEmail(email, code);
+        throw new EmailVerificationConflictException();
     }
 
-    private void handleExistingEmailVerification(EmailVerification emailVerification, String code, LocalDateTime now) {
-        String email = emailVerification.getEmail();
+    private boolean reissueEmailVerification(EmailVerification emailVerification, String code, LocalDateTime now) {
         if (emailVerification.getStatus() == EmailVerifyStatus.VERIFIED) {
             throw new EmailVerificationAlreadyDoneException();
-        } else if (emailVerification.getStatus() == EmailVerifyStatus.LOCKED) {
-            handleLockedEmailVerification(emailVerification, code, now);
-        } else if (emailVerification.getStatus() == EmailVerifyStatus.PENDING && emailVerification.getExpiresAt().isAfter(now)) {
-            handleNotExpiredEmailVerification(emailVerification, code, now);
-        } else if (emailVerification.getExpiresAt().isBefore(now)) {
-            handleExpiredEmailVerification(emailVerification);
-            saveNewEmailVerification(email, code, now);
         }
-
-        emailVerificationRepository.save(emailVerification);
-        sendJoinEmailVerificationEmail(email, code);
-    }
-
-    private void handleLockedEmailVerification(EmailVerification emailVerification, String code, LocalDateTime now) {
-        if (emailVerification.getLockedUntil() != null && now.isBefore(emailVerification.getLockedUntil())) {
-            throw new EmailVerificationLockedException();
+        if (emailVerification.getStatus() == EmailVerifyStatus.LOCKED) {
+            if (emailVerification.getLockedUntil() != null && now.isBefore(emailVerification.getLockedUntil())) {
+                throw new EmailVerificationLockedException();
+            }
+            return emailVerificationStore.unlockWithCode(emailVerification, code, now);
+        }
+        if (emailVerification.getStatus() == EmailVerifyStatus.PENDING && emailVerification.getExpiresAt().isAfter(now)) {
+            return emailVerificationStore.reissueCode(emailVerification, code, now.plusMinutes(expireMinutes));
         }
-        emailVerification.updateStatus(EmailVerifyStatus.PENDING);
-        emailVerification.updateCode(code);
-        emailVerification.resetAttemptCount();
-        emailVerification.clearLockedUntil();
-    }
-
-    private void handleNotExpiredEmailVerification(EmailVerification emailVerification, String code, LocalDateTime now) {
-        emailVerification.updateCode(code);
-        emailVerification.resetExpiresAt(now.plusMinutes(expireMinutes));
-    }
-
-    private void handleExpiredEmailVerification(EmailVerification emailVerification) {
-        emailVerification.updateStatus(EmailVerifyStatus.EXPIRED);
-    }
-
-    private String buildVerificationHtml(String email, String code) {
-        Context context = new Context();
-        context.setVariable("brandName", "Store Case");
-        context.setVariable("email", email);
-        context.setVariable("code", code);
-        context.setVariable("expiresMinutes", expireMinutes);
-        context.setVariable("year", Year.now().getValue());
 
-        return templateEngine.process("email/verification", context);
+        // 만료된 인증은 EXPIRED 로 표시하고 새 인증을 만든다. 새 인증이 최신이 되므로 표시가 반영되지 않아도 괜찮다
+        emailVerificationStore.expire(emailVerification, now);
+        saveNewEmailVerification(emailVerification.getEmail(), code, now);
+        return true;
     }
 
     private void sendJoinEmailVerificationEmail(String email, String code) {
-        String html = buildVerificationHtml(email, code);
-        emailClient.sendOneEmail(email, SUBJECT, html);
+        String html = verificationEmailRenderer.render(email, code, expireMinutes);
+        emailDispatcher.dispatch(email, SUBJECT, html);
     }
 
     private EmailVerification saveNewEmailVerification(String email, String code, LocalDateTime now) {
@@ -142,19 +137,24 @@ public class JoinServiceImpl implements JoinService {
                 .attemptCount(0)
                 .expiresAt(now.plusMinutes(expireMinutes))
                 .build();
-        return emailVerificationRepository.save(emailVerification);
+        return emailVerificationStore.save(emailVerification);
     }
 
-    // TODO 동시성 테스트 필요
+    /**
+     * 시도 횟수 증가, 잠금, 인증 완료는 저장소의 조건부 갱신으로만 반영한다.
+     * 동시에 들어온 요청이 같은 인증을 읽었더라도 조건을 만족한 요청만 반영되므로 max_attempts 를 넘을 수 없다.
+     * 다른 트랜잭션이 커밋한 상태를 다시 읽어야 하므로 READ_COMMITTED 로 실행한다.
+     */
     @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public EmailVerificationConfirmResponseDto verifyEmailCode(EmailVerificationConfirmRequestDto emailVerificationConfirmRequestDto) {
-        final LocalDateTime now =  LocalDateTime.now();
+        final LocalDateTime now = LocalDateTime.now(clock);
+        final String email = emailVerificationConfirmRequestDto.getEmail();
 
-        EmailVerification emailVerification = emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(emailVerificationConfirmRequestDto.getEmail(), EmailPurpose.SIGNUP)
-                .orElseThrow(() -> new EntityNotFoundException("EmailVerification",  emailVerificationConfirmRequestDto.getEmail()));
+        EmailVerification emailVerification = findLatestSignupVerification(email);
 
         if (emailVerification.getStatus().equals(EmailVerifyStatus.VERIFIED)) {
-            log.info("이메일이 이미 인증되었습니다. {}", emailVerificationConfirmRequestDto.getEmail());
+            log.info("이메일이 이미 인증되었습니다. {}", email);
             return EmailVerificationConfirmResponseDto.from(emailVerification);
         }
 
@@ -165,34 +165,56 @@ public class JoinServiceImpl implements JoinService {
                 throw new EmailVerificationLockedException();
             }
 
-            emailVerification.updateStatus(EmailVerifyStatus.PENDING);
-            emailVerification.resetAttemptCount();
+            emailVerificationStore.unlock(emailVerification, now);
+            emailVerification = findLatestSignupVerification(email);
         }
 
         if (emailVerification.getExpiresAt().isBefore(now)) {
-            emailVerification.updateStatus(EmailVerifyStatus.EXPIRED);
-            emailVerificationRepository.save(emailVerification);
+            emailVerificationStore.expire(emailVerification, now);
             throw new EmailVerificationExpiredException();
         }
 
         if (emailVerification.getCode().equals(emailVerificationConfirmRequestDto.getCode())) {
-            emailVerification.updateStatus(EmailVerifyStatus.VERIFIED);
-            emailVerificationRepository.save(emailVerification);
-            return EmailVerificationConfirmResponseDto.from(emailVerification);
+            if (emailVerificationStore.verify(emailVerification, emailVerificationConfirmRequestDto.getCode(), maxAttempts, now)) {
+                return EmailVerificationConfirmResponseDto.from(findLatestSignupVerification(email));
+            }
+            return resolveConcurrentUpdate(email);
         }
 
-        emailVerification.increaseAttemptCount();
+        if (!emailVerificationStore.increaseAttemptCount(emailVerification, maxAttempts, now.plusMinutes(lockMinutes))) {
+            throw rejectConcurrentWrongCode(email);
+        }
 
-        if (emailVerification.getAttemptCount() >= maxAttempts) {
-            emailVerification.updateStatus(EmailVerifyStatus.LOCKED);
-            emailVerification.updateLockedUntil(LocalDateTime.now().plusMinutes(lockMinutes));
-            emailVerificationRepository.save(emailVerification);
+        EmailVerification updated = findLatestSignupVerification(email);
+        if (updated.getStatus() == EmailVerifyStatus.LOCKED) {
+            throw new EmailVerificationAttemptLimitExceededException();
+        }
+        return EmailVerificationConfirmResponseDto.from(updated);
+    }
 
+    // 올바른 코드의 인증이 반영되지 않았다면 다른 요청이 먼저 상태를 바꾼 것이므로 현재 상태로 응답한다
+    private EmailVerificationConfirmResponseDto resolveConcurrentUpdate(String email) {
+        EmailVerification current = findLatestSignupVerification(email);
+        if (current.getStatus() == EmailVerifyStatus.LOCKED) {
             throw new EmailVerificationAttemptLimitExceededException();
         }
+        if (current.getStatus() == EmailVerifyStatus.EXPIRED) {
+            throw new EmailVerificationExpiredException();
+        }
+        return EmailVerificationConfirmResponseDto.from(current);
+    }
 
-        emailVerificationRepository.save(emailVerification);
+    // 틀린 코드는 다른 요청이 먼저 인증했거나 새 인증이 생겼더라도 성공으로 응답하지 않는다
+    private RuntimeException rejectConcurrentWrongCode(String email) {
+        EmailVerification current = findLatestSignupVerification(email);
+        if (current.getStatus() == EmailVerifyStatus.LOCKED) {
+            return new EmailVerificationAttemptLimitExceededException();
+        }
+        return new EmailVerificationFailedException();
+    }
 
-        return EmailVerificationConfirmResponseDto.from(emailVerification);
+    private EmailVerification findLatestSignupVerification(String email) {
+        return emailVerificationStore.findLatest(email, EmailPurpose.SIGNUP)
+                .orElseThrow(() -> new EntityNotFoundException("EmailVerification", email));
     }
 }
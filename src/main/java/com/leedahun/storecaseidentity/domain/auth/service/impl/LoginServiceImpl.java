@@ -2,57 +2,182 @@ package com.leedahun.storecaseidentity.domain.auth.service.impl;
 
 import com.leedahun.storecaseidentity.common.error.exception.EntityNotFoundException;
 import com.leedahun.storecaseidentity.domain.auth.dto.*;
-import com.leedahun.storecaseidentity.domain.auth.entity.Role;
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import com.leedahun.storecaseidentity.domain.auth.entity.RefreshTokenFamily;
 import com.leedahun.storecaseidentity.domain.auth.entity.User;
 import com.leedahun.storecaseidentity.domain.auth.exception.InvalidPasswordException;
+import com.leedahun.storecaseidentity.domain.auth.exception.InvalidJwtTokenException;
+import com.leedahun.storecaseidentity.domain.auth.exception.JwtTokenExpiredException;
+import com.leedahun.storecaseidentity.domain.auth.exception.PasswordHashingUnavailableException;
+import com.leedahun.storecaseidentity.domain.auth.exception.RefreshTokenReusedException;
+import com.leedahun.storecaseidentity.domain.auth.exception.RefreshTokenRevokedException;
+import com.leedahun.storecaseidentity.domain.auth.repository.RefreshTokenStore;
 import com.leedahun.storecaseidentity.domain.auth.repository.UserRepository;
 import com.leedahun.storecaseidentity.domain.auth.service.LoginService;
+import com.leedahun.storecaseidentity.domain.auth.util.AccessTokenDenylist;
 import com.leedahun.storecaseidentity.domain.auth.util.JwtUtil;
+import com.leedahun.storecaseidentity.domain.auth.util.LoginFailureTracker;
+import com.leedahun.storecaseidentity.domain.auth.util.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class LoginServiceImpl implements LoginService {
 
     private final JwtUtil jwtUtil;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final JwtProperties jwtProperties;
+    private final PasswordHashingExecutor passwordHashingExecutor;
     private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final LoginFailureTracker loginFailureTracker;
+    private final Clock clock;
 
+    // 조회 커넥션을 반납한 뒤 해싱하도록 트랜잭션 없이 실행한다
     @Override
-    @Transactional(readOnly = true)
-    public LoginResult login(LoginRequestDto loginRequestDto) {
-        User user = userRepository.findByEmail(loginRequestDto.getEmail())
-                .orElseThrow(() -> new EntityNotFoundException("User", loginRequestDto.getEmail()));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LoginResult login(LoginRequestDto loginRequestDto, String clientIp) {
+        // 잠긴 이메일, IP 는 조회와 해싱 전에 거절한다
+        loginFailureTracker.checkNotLocked(loginRequestDto.getEmail(), clientIp);
+
+        Optional<User> found = userRepository.findByEmail(loginRequestDto.getEmail());
+        if (found.isEmpty()) {
+            loginFailureTracker.recordFailure(loginRequestDto.getEmail(), clientIp);
+            throw new EntityNotFoundException("User", loginRequestDto.getEmail());
+        }
+        User user = found.get();
 
-        if (!passwordEncoder.matches(loginRequestDto.getPassword(), user.getPassword())) {
+        if (!passwordHashingExecutor.matches(loginRequestDto.getPassword(), user.getPassword())) {
+            loginFailureTracker.recordFailure(loginRequestDto.getEmail(), clientIp);
             throw new InvalidPasswordException();
         }
+        loginFailureTracker.recordSuccess(loginRequestDto.getEmail());
+        upgradePasswordEncodingIfNeeded(user, loginRequestDto.getPassword());
 
-        TokenResult tokens = issueTokens(user.getId(), user.getRole());
+        TokenResult tokens = startTokenFamily(user);
         LoginResponseDto loginResponse = LoginResponseDto.from(user, tokens.getAccessToken());
         return LoginResult.from(loginResponse, tokens.getRefreshToken());
     }
 
+    // 재사용을 감지해 family 를 폐기한 뒤 예외를 던지므로, 폐기가 롤백되지 않게 저장소 호출마다 따로 커밋한다
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResult reissueTokens(String refreshToken) {
-        LoginUser loginUser = jwtUtil.verify(refreshToken);
+        RefreshTokenClaims claims = jwtUtil.verifyRefreshToken(refreshToken);
+
+        User user = userRepository.findById(claims.getUserId())
+                .orElseThrow(() -> new EntityNotFoundException("User", String.valueOf(claims.getUserId())));
 
-        User user = userRepository.findById(loginUser.getId())
-                .orElseThrow(() -> new EntityNotFoundException("User", String.valueOf(loginUser.getId())));
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (claims.isLegacy()) {
+            startLegacyFamily(claims, now);
+        }
+        String nextTokenId = UUID.randomUUID().toString();
+        if (!refreshTokenStore.rotate(claims.getFamilyId(), claims.getTokenId(), nextTokenId, refreshExpiresAt(now), now)) {
+            rejectRefreshToken(claims, now);
+        }
 
-        return issueTokens(user.getId(), user.getRole());
+        return TokenResult.builder()
+                .accessToken(jwtUtil.createAccessToken(user.getId(), user.getRole(), claims.getFamilyId()))
+                .refreshToken(jwtUtil.createRefreshToken(user.getId(), user.getRole(), nextTokenId, claims.getFamilyId()))
+                .build();
     }
 
-    private TokenResult issueTokens(Long userId, Role role) {
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String refreshToken) {
+        RefreshTokenClaims claims;
+        try {
+            claims = jwtUtil.verifyRefreshToken(refreshToken);
+        } catch (JwtTokenExpiredException | InvalidJwtTokenException e) {
+            // 만료됐거나 위조·손상된 토큰은 재발급에 쓸 수 없으므로 폐기할 것이 없다
+            return;
+        }
+        if (claims.isLegacy()) {
+            // 폐기 기록이 남아야 같은 이전 토큰으로 다시 재발급받지 못한다
+            startLegacyFamily(claims, LocalDateTime.now(clock));
+        }
+        revokeFamily(claims.getFamilyId());
+    }
+
+    /**
+     * jti, fid 없이 발급된 이전 토큰은 처음 쓰일 때 토큰에서 정해지는 familyId 로 family 를 만든 뒤 일반 토큰처럼 회전한다.
+     * 같은 이전 토큰이 다시 제출되면 family 가 이미 있고 tokenId 가 바뀌었으므로 재사용으로 처리된다.
+     */
+    private void startLegacyFamily(RefreshTokenClaims claims, LocalDateTime now) {
+        if (refreshTokenStore.find(claims.getFamilyId()).isPresent()) {
+            return;
+        }
+        refreshTokenStore.save(RefreshTokenFamily.builder()
+                .familyId(claims.getFamilyId())
+                .userId(claims.getUserId())
+                .tokenId(claims.getTokenId())
+                .expiresAt(refreshExpiresAt(now))
+                .build());
+    }
+
+    // family 가 살아 있는데 회전에 실패했다면 이미 교체된 토큰이 다시 제출된 것이므로 family 전체를 폐기한다
+    private void rejectRefreshToken(RefreshTokenClaims claims, LocalDateTime now) {
+        Optional<RefreshTokenFamily> family = refreshTokenStore.find(claims.getFamilyId());
+        if (family.isPresent() && family.get().isActive(now)) {
+            revokeFamily(claims.getFamilyId());
+            log.warn("Refresh token reuse detected, family revoked. userId={}, familyId={}, rotation={}",
+                    claims.getUserId(), claims.getFamilyId(), family.get().getRotation());
+            throw new RefreshTokenReusedException();
+        }
+        throw new RefreshTokenRevokedException();
+    }
+
+    // 같은 family 로 발급된 access token 은 길어야 access token 수명만큼 남아 있으므로 그때까지만 거절한다
+    private void revokeFamily(String familyId) {
+        refreshTokenStore.revoke(familyId);
+        accessTokenDenylist.revoke(familyId, clock.millis() + jwtProperties.getExpirationTime());
+    }
+
+    // 이전 strength 로 저장된 해시를 로그인 시점에 현재 strength 로 다시 저장한다
+    private void upgradePasswordEncodingIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingExecutor.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        try {
+            String upgradedPassword = passwordHashingExecutor.encode(rawPassword);
+            userRepository.updatePassword(user.getId(), user.getPassword(), upgradedPassword);
+        } catch (PasswordHashingUnavailableException e) {
+            log.debug("Password encoding upgrade skipped. userId={}", user.getId());
+        }
+    }
+
+    private TokenResult startTokenFamily(User user) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenStore.save(RefreshTokenFamily.builder()
+                .familyId(familyId)
+                .userId(user.getId())
+                .tokenId(tokenId)
+                .expiresAt(refreshExpiresAt(LocalDateTime.now(clock)))
+                .build());
+
         return TokenResult.builder()
-                .accessToken(jwtUtil.createAccessToken(userId, role))
-                .refreshToken(jwtUtil.createRefreshToken(userId, role))
+                .accessToken(jwtUtil.createAccessToken(user.getId(), user.getRole(), familyId))
+                .refreshToken(jwtUtil.createRefreshToken(user.getId(), user.getRole(), tokenId, familyId))
                 .build();
     }
 
+    private LocalDateTime refreshExpiresAt(LocalDateTime now) {
+        return now.plus(Duration.ofMillis(jwtProperties.getRefreshExpirationTime()));
+    }
+
 }
\ No newline at end of file
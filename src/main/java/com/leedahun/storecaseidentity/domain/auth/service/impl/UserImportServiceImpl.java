@@ -0,0 +1,341 @@
+package com.leedahun.storecaseidentity.domain.auth.service.impl;
+
+import com.leedahun.storecaseidentity.domain.auth.config.UserImportProperties;
+import com.leedahun.storecaseidentity.domain.auth.dto.JoinRequestDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto.ChunkResult;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto.Failure;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto.FailureReason;
+import com.leedahun.storecaseidentity.domain.auth.entity.User;
+import com.leedahun.storecaseidentity.domain.auth.exception.UserImportLimitExceededException;
+import com.leedahun.storecaseidentity.domain.auth.repository.UserBatchRepository;
+import com.leedahun.storecaseidentity.domain.auth.repository.UserRepository;
+import com.leedahun.storecaseidentity.domain.auth.service.UserImportService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 제휴 스토어 회원을 chunk_size 단위로 나눠 일괄 등록한다.
+ * <p>
+ * chunk 마다 이미 가입된 이메일을 IN 조회 한 번으로 거르고, 남은 회원의 비밀번호를 hashing_threads 개의 스레드에서
+ * 나눠 해싱한 뒤 JDBC batch insert 로 한 트랜잭션에 저장한다. 해싱은 트랜잭션 밖에서 하므로 커넥션을 오래 잡지 않는다.
+ * 로그인용 PasswordHashingExecutor 와 풀은 나눠져 있지만 CPU 코어는 함께 쓰므로, 일괄 등록 중에는 로그인 해싱이 느려져
+ * 대기열이 차면 503 이 날 수 있다. 그래서 hashing_threads 기본값은 코어의 절반이고, 트래픽이 적은 시간에 실행한다.
+ * <p>
+ * 요청 하나가 동기로 처리되므로 max_users 는 해싱 시간(회원 수 × BCrypt 시간 ÷ hashing_threads)이 HTTP 타임아웃을 넘지 않게 둔다.
+ * <p>
+ * 컬럼 길이나 이메일 형식에 맞지 않는 회원은 해싱 전에 INVALID 로 거르므로, 한 행 때문에 chunk 전체의 insert 가 실패하지 않는다.
+ * 이메일은 앞뒤 공백을 지운 값으로 저장하고, 중복 판단은 대소문자를 무시한다.
+ * <p>
+ * 한 chunk 의 해싱이나 insert 가 실패해도 다음 chunk 는 계속 진행하고, 실패한 회원은 응답의 failures 로 돌려준다.
+ * 요청 스레드가 인터럽트되면 남은 chunk 는 ABORTED 로 기록하고 그때까지의 결과를 돌려준다.
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    // user 테이블 컬럼 길이와 BCrypt 가 받는 최대 비밀번호 길이
+    private static final int EMAIL_MAX_LENGTH = 120;
+    private static final int NAME_MAX_LENGTH = 60;
+    private static final int PHONE_MAX_LENGTH = 30;
+    private static final int PASSWORD_MAX_BYTES = 72;
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final UserImportProperties properties;
+    private final Clock clock;
+    private final ExecutorService hashingExecutor;
+
+    private final Counter importedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Timer chunkTimer;
+
+    public UserImportServiceImpl(UserRepository userRepository,
+                                 UserBatchRepository userBatchRepository,
+                                 BCryptPasswordEncoder passwordEncoder,
+                                 PlatformTransactionManager transactionManager,
+                                 UserImportProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 Clock clock) {
+        this.userRepository = userRepository;
+        this.userBatchRepository = userBatchRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+        this.hashingExecutor = Executors.newFixedThreadPool(
+                Math.max(1, properties.getHashingThreads()), new CustomizableThreadFactory("user-import-hashing-"));
+
+        this.importedCounter = importCounter(meterRegistry, "imported");
+        this.skippedCounter = importCounter(meterRegistry, "skipped");
+        this.failedCounter = importCounter(meterRegistry, "failed");
+        this.chunkTimer = Timer.builder("auth.user_import.chunk")
+                .register(meterRegistry);
+    }
+
+    private static Counter importCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.user_import.users")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UserImportResponseDto importUsers(List<JoinRequestDto> users) {
+        if (users.size() > properties.getMaxUsers()) {
+            throw new UserImportLimitExceededException();
+        }
+
+        long startedAt = System.nanoTime();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        Set<String> seenEmails = new HashSet<>();
+        List<ChunkResult> chunks = new ArrayList<>();
+        List<Failure> failures = new ArrayList<>();
+
+        int aborted = 0;
+        for (int from = 0; from < users.size(); from += chunkSize) {
+            if (Thread.currentThread().isInterrupted()) {
+                aborted = abortRemaining(users, from, failures);
+                break;
+            }
+            List<JoinRequestDto> chunk = users.subList(from, Math.min(from + chunkSize, users.size()));
+            chunks.add(importChunk(chunks.size(), from, chunk, seenEmails, failures));
+        }
+
+        int imported = chunks.stream().mapToInt(ChunkResult::getImported).sum();
+        int skipped = chunks.stream().mapToInt(ChunkResult::getSkipped).sum();
+        int failed = chunks.stream().mapToInt(ChunkResult::getFailed).sum() + aborted;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("User import finished. requested={}, imported={}, skipped={}, failed={}, elapsedMillis={}",
+                users.size(), imported, skipped, failed, elapsedMillis);
+
+        return UserImportResponseDto.builder()
+                .requested(users.size())
+                .imported(imported)
+                .skipped(skipped)
+                .failed(failed)
+                .elapsedMillis(elapsedMillis)
+                .chunks(chunks)
+                .failures(failures)
+                .build();
+    }
+
+    private int abortRemaining(List<JoinRequestDto> users, int from, List<Failure> failures) {
+        log.warn("User import interrupted, aborting remaining users. remaining={}", users.size() - from);
+        for (int index = from; index < users.size(); index++) {
+            failures.add(new Failure(index, users.get(index).getEmail(), FailureReason.ABORTED));
+        }
+        failedCounter.increment(users.size() - from);
+        return users.size() - from;
+    }
+
+    private ChunkResult importChunk(int chunkIndex, int offset, List<JoinRequestDto> chunk,
+                                    Set<String> seenEmails, List<Failure> failures) {
+        long startedAt = System.nanoTime();
+        int failuresBefore = failures.size();
+
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            JoinRequestDto user = chunk.get(i);
+            int index = offset + i;
+            if (!isValid(user)) {
+                failures.add(new Failure(index, user.getEmail(), FailureReason.INVALID));
+                continue;
+            }
+            String email = user.getEmail().trim();
+            if (!seenEmails.add(normalize(email))) {
+                failures.add(new Failure(index, email, FailureReason.DUPLICATE_IN_REQUEST));
+            } else {
+                rows.add(new Row(index, email, user));
+            }
+        }
+        rows = excludeExisting(rows, failures);
+
+        long hashStartedAt = System.nanoTime();
+        List<User> entities = hashAll(rows, failures);
+        long insertStartedAt = System.nanoTime();
+        int imported = entities.isEmpty() ? 0 : insert(rows, entities, failures);
+        long finishedAt = System.nanoTime();
+
+        int failed = (int) failures.subList(failuresBefore, failures.size()).stream()
+                .filter(failure -> failure.getReason() == FailureReason.HASH_FAILED
+                        || failure.getReason() == FailureReason.INSERT_FAILED)
+                .count();
+        int skipped = failures.size() - failuresBefore - failed;
+        long elapsedNanos = finishedAt - startedAt;
+        chunkTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        importedCounter.increment(imported);
+        skippedCounter.increment(skipped);
+        failedCounter.increment(failed);
+
+        ChunkResult result = ChunkResult.builder()
+                .index(chunkIndex)
+                .requested(chunk.size())
+                .imported(imported)
+                .skipped(skipped)
+                .failed(failed)
+                .hashMillis(TimeUnit.NANOSECONDS.toMillis(insertStartedAt - hashStartedAt))
+                .insertMillis(TimeUnit.NANOSECONDS.toMillis(finishedAt - insertStartedAt))
+                .usersPerSecond(elapsedNanos > 0 ? imported * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : imported)
+                .build();
+        log.info("User import chunk done. {}", result);
+        return result;
+    }
+
+    // 이메일 유니크 인덱스로 chunk 전체를 한 번에 조회한다
+    private List<Row> excludeExisting(List<Row> rows, List<Failure> failures) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (String email : userRepository.findExistingEmails(rows.stream().map(Row::email).toList())) {
+            existing.add(normalize(email));
+        }
+        if (existing.isEmpty()) {
+            return rows;
+        }
+
+        List<Row> remaining = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (existing.contains(normalize(row.email()))) {
+                failures.add(new Failure(row.index(), row.email(), FailureReason.ALREADY_EXISTS));
+            } else {
+                remaining.add(row);
+            }
+        }
+        return remaining;
+    }
+
+    // 해싱 하나라도 실패하면 chunk 전체를 HASH_FAILED 로 기록하고 빈 목록을 돌려줘 insert 를 건너뛴다
+    private List<User> hashAll(List<Row> rows, List<Failure> failures) {
+        List<Callable<String>> tasks = rows.stream()
+                .map(row -> (Callable<String>) () -> passwordEncoder.encode(row.user().getPassword()))
+                .toList();
+
+        List<User> entities = new ArrayList<>(rows.size());
+        try {
+            List<Future<String>> hashes = hashingExecutor.invokeAll(tasks);
+            for (int i = 0; i < rows.size(); i++) {
+                entities.add(rows.get(i).toEntity(hashes.get(i).get()));
+            }
+        } catch (InterruptedException e) {
+            // 이미 커밋한 chunk 결과를 잃지 않도록 이 chunk 만 실패로 남기고, 남은 chunk 는 importUsers 가 중단한다
+            Thread.currentThread().interrupt();
+            log.warn("User import chunk hashing interrupted. size={}", rows.size());
+            rows.forEach(row -> failures.add(new Failure(row.index(), row.email(), FailureReason.HASH_FAILED)));
+            return List.of();
+        } catch (ExecutionException e) {
+            log.error("User import chunk hashing failed. size={}", rows.size(), e.getCause());
+            rows.forEach(row -> failures.add(new Failure(row.index(), row.email(), FailureReason.HASH_FAILED)));
+            return List.of();
+        }
+        return entities;
+    }
+
+    /**
+     * 조회와 insert 사이에 같은 이메일로 가입한 회원이 있으면 ux_user_email 위반으로 chunk 가 롤백된다.
+     * 이때 한 번만 다시 조회해 걸러낸 뒤 재시도하고, 그래도 실패하면 chunk 전체를 실패로 기록한다.
+     */
+    private int insert(List<Row> rows, List<User> entities, List<Failure> failures) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        try {
+            return insertInTransaction(entities, now);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("User import chunk conflicted with existing users, retrying. size={}", rows.size());
+        } catch (DataAccessException e) {
+            log.error("User import chunk failed. size={}", rows.size(), e);
+            rows.forEach(row -> failures.add(new Failure(row.index(), row.email(), FailureReason.INSERT_FAILED)));
+            return 0;
+        }
+
+        List<Row> remaining = excludeExisting(rows, failures);
+        List<User> remainingEntities = new ArrayList<>(remaining.size());
+        int cursor = 0;
+        for (Row row : remaining) {
+            while (rows.get(cursor) != row) {
+                cursor++;
+            }
+            remainingEntities.add(entities.get(cursor));
+        }
+
+        try {
+            return insertInTransaction(remainingEntities, now);
+        } catch (DataAccessException e) {
+            log.error("User import chunk failed after retry. size={}", remaining.size(), e);
+            remaining.forEach(row -> failures.add(new Failure(row.index(), row.email(), FailureReason.INSERT_FAILED)));
+            return 0;
+        }
+    }
+
+    private int insertInTransaction(List<User> entities, LocalDateTime now) {
+        Integer inserted = transactionTemplate.execute(status -> userBatchRepository.insertAll(entities, now));
+        return inserted == null ? 0 : inserted;
+    }
+
+    private static boolean isValid(JoinRequestDto user) {
+        if (!hasText(user.getEmail()) || !hasText(user.getPassword())) {
+            return false;
+        }
+        String email = user.getEmail().trim();
+        return email.length() <= EMAIL_MAX_LENGTH
+                && EMAIL_PATTERN.matcher(email).matches()
+                && user.getPassword().getBytes(StandardCharsets.UTF_8).length <= PASSWORD_MAX_BYTES
+                && (user.getName() == null || user.getName().length() <= NAME_MAX_LENGTH)
+                && (user.getPhone() == null || user.getPhone().length() <= PHONE_MAX_LENGTH);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    private record Row(int index, String email, JoinRequestDto user) {
+
+        User toEntity(String encodedPassword) {
+            return User.builder()
+                    .email(email)
+                    .password(encodedPassword)
+                    .name(user.getName())
+                    .phone(user.getPhone())
+                    .build();
+        }
+    }
+}
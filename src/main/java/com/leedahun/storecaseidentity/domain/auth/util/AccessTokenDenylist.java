@@ -0,0 +1,172 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기된 access token 의 jti, sid 를 원래 토큰의 만료 시각까지 보관한다. 단일 인스턴스용.
+ * <p>
+ * access token 수명을 WINDOWS_PER_LIFETIME 개의 시간 창으로 나누고, 만료 시각이 속한 창의 Bloom filter 에 기록한다.
+ * 창이 모두 지나면 그 세대는 다음 창에 재사용되므로 만료된 항목은 따로 지우지 않아도 필터에서 빠진다.
+ * Bloom filter 가 양성이면 정확한 집합에서 한 번 더 확인해 오탐으로 정상 토큰을 거절하지 않는다.
+ * 조회는 volatile 읽기만 하므로 락을 잡지 않고 객체도 만들지 않는다.
+ */
+@Component
+public class AccessTokenDenylist {
+
+    private static final int WINDOWS_PER_LIFETIME = 4;
+    private static final int MAX_BITS = 1 << 30;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Clock clock;
+    private final long lifetimeMillis;
+    private final long windowMillis;
+    private final int bitMask;
+    private final int hashCount;
+
+    // 현재 창부터 수명만큼 앞선 창까지 겹치지 않도록 WINDOWS_PER_LIFETIME + 2 칸을 돌려 쓴다
+    private final AtomicReferenceArray<Generation> generations = new AtomicReferenceArray<>(WINDOWS_PER_LIFETIME + 2);
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+
+    public AccessTokenDenylist(JwtProperties jwtProperties,
+                               Clock clock,
+                               @Value("${jwt.denylist_expected_revocations:10000}") int expectedRevocations,
+                               @Value("${jwt.denylist_false_positive_rate:0.01}") double falsePositiveRate) {
+        this.clock = clock;
+        this.lifetimeMillis = jwtProperties.getExpirationTime();
+        this.windowMillis = Math.max(1L, Math.ceilDiv(lifetimeMillis, WINDOWS_PER_LIFETIME));
+
+        int expected = Math.max(1, expectedRevocations);
+        int bits = bitCount(expected, falsePositiveRate);
+        this.bitMask = bits - 1;
+        this.hashCount = Math.max(1, (int) Math.round((double) bits / expected * Math.log(2)));
+    }
+
+    // 폭주하더라도 한 세대가 수명 전체의 폐기량을 받을 수 있게 세대마다 같은 크기로 잡는다
+    private static int bitCount(int expected, double falsePositiveRate) {
+        double optimal = -expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long bits = Math.min(MAX_BITS, Math.max(Long.SIZE, (long) Math.ceil(optimal)));
+        return Integer.highestOneBit((int) bits - 1) << 1;
+    }
+
+    /**
+     * 원래 토큰이 만료되는 시각까지 id 를 거절한다.
+     * access token 보다 오래 살 수 없으므로 만료 시각은 지금부터 access token 수명까지로 자른다.
+     */
+    public void revoke(String id, long expiresAtMillis) {
+        long now = clock.millis();
+        long expiresAt = Math.min(expiresAtMillis, now + lifetimeMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+
+        // 필터보다 정확한 집합에 먼저 넣어야 필터 양성 뒤 집합 조회가 항상 성공한다
+        revoked.merge(id, expiresAt, Math::max);
+        Generation generation = generationFor(Math.floorDiv(expiresAt, windowMillis));
+        if (generation != null) {
+            generation.put(hash(id), hashCount, bitMask);
+        }
+    }
+
+    public boolean isRevoked(String id) {
+        if (id == null || revoked.isEmpty()) {
+            return false;
+        }
+
+        long now = clock.millis();
+        long currentWindow = Math.floorDiv(now, windowMillis);
+        long hash = hash(id);
+        for (int i = 0; i < generations.length(); i++) {
+            Generation generation = generations.get(i);
+            if (generation != null && generation.window >= currentWindow
+                    && generation.mightContain(hash, hashCount, bitMask)) {
+                Long expiresAt = revoked.get(id);
+                return expiresAt != null && expiresAt > now;
+            }
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.denylist_purge_millis:60000}")
+    public void purgeExpired() {
+        long now = clock.millis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    // 칸이 이전 창의 세대를 들고 있으면 새 세대로 교체한다. 교체는 폐기 경로에서만 일어난다
+    private Generation generationFor(long window) {
+        int slot = (int) Math.floorMod(window, generations.length());
+        while (true) {
+            Generation current = generations.get(slot);
+            if (current != null && current.window >= window) {
+                return current.window == window ? current : null;
+            }
+            Generation next = new Generation(window, bitMask + 1);
+            if (generations.compareAndSet(slot, current, next)) {
+                return next;
+            }
+        }
+    }
+
+    // String 을 byte[] 로 바꾸지 않고 char 단위로 FNV-1a 를 계산한다
+    private static long hash(String id) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    private static final class Generation {
+
+        private final long window;
+        private final AtomicLongArray words;
+
+        private Generation(long window, int bits) {
+            this.window = window;
+            this.words = new AtomicLongArray(Math.max(1, bits >>> 6));
+        }
+
+        // 64비트 해시를 둘로 나눠 k 개의 위치를 만든다 (Kirsch-Mitzenmacher)
+        boolean mightContain(long hash, int hashCount, int bitMask) {
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = (hash1 + i * hash2) & bitMask;
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long hash, int hashCount, int bitMask) {
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = (hash1 + i * hash2) & bitMask;
+                int index = bit >>> 6;
+                long mask = 1L << bit;
+                long word;
+                while (((word = words.get(index)) & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                    // 다른 비트를 먼저 세운 스레드가 있으면 다시 읽어 합친다
+                }
+            }
+        }
+    }
+}
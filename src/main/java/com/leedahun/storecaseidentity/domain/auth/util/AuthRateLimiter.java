@@ -0,0 +1,97 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import com.leedahun.storecaseidentity.common.ratelimit.TokenBucketRateLimiter;
+import com.leedahun.storecaseidentity.domain.auth.config.RateLimitProperties;
+import com.leedahun.storecaseidentity.domain.auth.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * rate_limit.endpoints 에 설정한 엔드포인트마다 IP 기준, 이메일 기준 토큰 버킷을 따로 둔다.
+ * IP 는 RateLimitFilter 가 요청 본문을 읽기 전에, 이메일은 컨트롤러가 서비스를 호출하기 전에 확인하므로
+ * 거절된 요청은 DB 조회, BCrypt, SMTP 를 하나도 거치지 않는다.
+ */
+@Component
+public class AuthRateLimiter {
+
+    public static final String LOGIN = "login";
+    public static final String JOIN_EMAIL = "join_email";
+
+    private final Clock clock;
+    private final boolean enabled;
+    private final Map<String, String> endpointsByPath = new HashMap<>();
+    private final Map<String, Limiter> ipLimiters = new HashMap<>();
+    private final Map<String, Limiter> emailLimiters = new HashMap<>();
+
+    public AuthRateLimiter(RateLimitProperties properties, Clock clock, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.enabled = properties.isEnabled();
+        properties.getEndpoints().forEach((endpoint, config) -> {
+            if (config.getPath() != null) {
+                endpointsByPath.put(config.getPath(), endpoint);
+            }
+            register(ipLimiters, endpoint, "ip", config.getIp(), properties, meterRegistry);
+            register(emailLimiters, endpoint, "email", config.getEmail(), properties, meterRegistry);
+        });
+    }
+
+    private static void register(Map<String, Limiter> limiters, String endpoint, String key,
+                                 RateLimitProperties.Limit limit, RateLimitProperties properties,
+                                 MeterRegistry meterRegistry) {
+        if (limit.getCapacity() <= 0) {
+            return;
+        }
+        TokenBucketRateLimiter buckets = new TokenBucketRateLimiter(
+                limit.getCapacity(), limit.getRefillMillis(), properties.getMaxKeys(), properties.getOverflowStripes());
+        Counter rejected = Counter.builder("auth.rate_limit.rejected")
+                .tag("endpoint", endpoint)
+                .tag("key", key)
+                .register(meterRegistry);
+        limiters.put(endpoint, new Limiter(buckets, rejected));
+    }
+
+    // 경로가 제한 대상이 아니면 null
+    public String endpointFor(String path) {
+        return enabled ? endpointsByPath.get(path) : null;
+    }
+
+    public void checkIp(String endpoint, String ip) {
+        check(ipLimiters, endpoint, ip);
+    }
+
+    public void checkEmail(String endpoint, String email) {
+        if (email == null) {
+            return;
+        }
+        check(emailLimiters, endpoint, email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private void check(Map<String, Limiter> limiters, String endpoint, String key) {
+        Limiter limiter = limiters.get(endpoint);
+        if (!enabled || limiter == null || key == null) {
+            return;
+        }
+
+        long waitMillis = limiter.buckets().tryAcquire(key, clock.millis());
+        if (waitMillis > 0) {
+            limiter.rejected().increment();
+            throw new RateLimitExceededException(Math.max(1, (waitMillis + 999) / 1000));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate_limit.evict_millis:60000}")
+    public void evictIdle() {
+        long now = clock.millis();
+        ipLimiters.values().forEach(limiter -> limiter.buckets().evictIdle(now));
+        emailLimiters.values().forEach(limiter -> limiter.buckets().evictIdle(now));
+    }
+
+    private record Limiter(TokenBucketRateLimiter buckets, Counter rejected) {
+    }
+}
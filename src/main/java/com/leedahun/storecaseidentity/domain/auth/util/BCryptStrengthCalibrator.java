@@ -0,0 +1,41 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * 현재 장비에서 해시 1회가 targetMillis 를 넘지 않는 가장 높은 BCrypt strength 를 찾는다.
+ * strength 가 1 오를 때마다 비용이 2배가 되므로 minStrength 에서만 측정하고 나머지는 추정한다.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int MEASURE_ROUNDS = 3;
+
+    private BCryptStrengthCalibrator() {}
+
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        String salt = BCrypt.gensalt(minStrength);
+        BCrypt.hashpw(SAMPLE_PASSWORD, salt);  // warm-up
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        long targetNanos = targetMillis * 1_000_000L;
+        int strength = minStrength;
+        long predictedNanos = bestNanos;
+        while (strength < maxStrength && predictedNanos * 2 <= targetNanos) {
+            strength++;
+            predictedNanos *= 2;
+        }
+
+        log.info("BCrypt strength calibrated: strength={}, measured={}ms at {}, predicted={}ms (target={}ms)",
+                strength, bestNanos / 1_000_000, minStrength, predictedNanos / 1_000_000, targetMillis);
+        return strength;
+    }
+}
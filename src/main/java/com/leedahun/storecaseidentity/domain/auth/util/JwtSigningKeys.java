@@ -0,0 +1,244 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import com.leedahun.storecaseidentity.domain.auth.constant.JwtSigningAlgorithm;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * JwtProperties.algorithm 에 따라 서명키와 검증기를 만든다.
+ * <p>
+ * HS512 는 secret 이 바뀔 때만 다시 만들고, 공유 비밀이므로 JWKS 에는 아무것도 공개하지 않는다.
+ * ES256 은 시작할 때 P-256 키 쌍을 읽어 kid 헤더와 함께 서명하고, 공개키를 JWKS 로 내보내
+ * 다른 서비스가 identity 를 호출하지 않고 토큰을 검증할 수 있게 한다.
+ * kid 를 설정하지 않으면 공개키의 RFC 7638 thumbprint 를 쓴다.
+ * 키를 설정하지 않고 임시 키로 서명하는 것은 local, test 프로필에서만 허용하고,
+ * 설정한 개인키와 공개키는 시작할 때 서명/검증해 한 쌍인지 확인한다.
+ */
+@Slf4j
+@Component
+public class JwtSigningKeys {
+
+    private static final String CURVE = "P-256";
+    private static final int COORDINATE_BYTES = 32;
+
+    private final JwtProperties jwtProperties;
+    private final Clock clock;
+
+    private final SigningKey asymmetricKey;
+    private final Map<String, Object> jwks;
+    private final String jwksETag;
+
+    // Algorithm, JWTVerifier 는 thread-safe 하므로 secret 이 바뀔 때만 다시 생성한다
+    private volatile SigningKey hmacKey;
+
+    public JwtSigningKeys(JwtProperties jwtProperties, Clock clock, Environment environment) {
+        this.jwtProperties = jwtProperties;
+        this.clock = clock;
+
+        List<Map<String, String>> publicJwks = new ArrayList<>();
+        if (jwtProperties.getAlgorithm() == JwtSigningAlgorithm.ES256) {
+            this.asymmetricKey = loadEcKey(publicJwks, environment.acceptsProfiles(Profiles.of("local", "test")));
+        } else {
+            this.asymmetricKey = null;
+        }
+        this.jwks = Map.of("keys", Collections.unmodifiableList(publicJwks));
+        this.jwksETag = base64Url(sha256(publicJwks.toString()));
+    }
+
+    SigningKey current() {
+        if (asymmetricKey != null) {
+            return asymmetricKey;
+        }
+
+        String secret = jwtProperties.getSecret();
+        SigningKey current = this.hmacKey;
+        if (current == null || !current.source().equals(secret)) {
+            current = SigningKey.of(secret, Algorithm.HMAC512(secret), clock);
+            this.hmacKey = current;
+        }
+        return current;
+    }
+
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    public String jwksETag() {
+        return jwksETag;
+    }
+
+    private SigningKey loadEcKey(List<Map<String, String>> publicJwks, boolean allowEphemeralKey) {
+        ECPublicKey publicKey;
+        ECPrivateKey privateKey;
+        boolean hasPrivateKey = StringUtils.hasText(jwtProperties.getPrivateKey());
+        boolean hasPublicKey = StringUtils.hasText(jwtProperties.getPublicKey());
+        if (hasPrivateKey && hasPublicKey) {
+            privateKey = (ECPrivateKey) parse(jwtProperties.getPrivateKey(), true);
+            publicKey = (ECPublicKey) parse(jwtProperties.getPublicKey(), false);
+            verifyKeyPair(privateKey, publicKey);
+        } else if (!hasPrivateKey && !hasPublicKey) {
+            // 키를 주지 않으면 인스턴스마다 다른 키가 생겨 다른 인스턴스가 발급한 토큰을 검증하지 못하므로 로컬 개발에서만 쓴다
+            if (!allowEphemeralKey) {
+                throw new IllegalStateException("jwt.private_key and jwt.public_key must be configured for es256");
+            }
+            KeyPair keyPair = generateKeyPair();
+            privateKey = (ECPrivateKey) keyPair.getPrivate();
+            publicKey = (ECPublicKey) keyPair.getPublic();
+            log.warn("jwt.private_key is not configured, signing with an ephemeral ES256 key");
+        } else {
+            throw new IllegalStateException("jwt.private_key and jwt.public_key must be configured together");
+        }
+
+        String keyId = StringUtils.hasText(jwtProperties.getKeyId()) ? jwtProperties.getKeyId() : thumbprint(publicKey);
+        Map<String, ECPublicKey> verificationKeys = new LinkedHashMap<>();
+        verificationKeys.put(keyId, publicKey);
+        jwtProperties.getPreviousPublicKeys()
+                .forEach((previousKeyId, encoded) -> verificationKeys.putIfAbsent(previousKeyId, (ECPublicKey) parse(encoded, false)));
+        verificationKeys.forEach((id, key) -> publicJwks.add(toJwk(id, key)));
+
+        ECDSAKeyProvider keyProvider = new ECDSAKeyProvider() {
+            @Override
+            public ECPublicKey getPublicKeyById(String id) {
+                return id == null ? null : verificationKeys.get(id);
+            }
+
+            @Override
+            public ECPrivateKey getPrivateKey() {
+                return privateKey;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return keyId;
+            }
+        };
+        return SigningKey.of(keyId, Algorithm.ECDSA256(keyProvider), clock);
+    }
+
+    private static Key parse(String encoded, boolean privateKey) {
+        byte[] der = Base64.getDecoder().decode(encoded.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", ""));
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            Key key = privateKey
+                    ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(der))
+                    : keyFactory.generatePublic(new X509EncodedKeySpec(der));
+            int fieldSize = privateKey
+                    ? ((ECPrivateKey) key).getParams().getCurve().getField().getFieldSize()
+                    : ((ECPublicKey) key).getParams().getCurve().getField().getFieldSize();
+            if (fieldSize != COORDINATE_BYTES * Byte.SIZE) {
+                throw new IllegalStateException("ES256 requires a " + CURVE + " key");
+            }
+            return key;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid ES256 key", e);
+        }
+    }
+
+    // 서로 다른 쌍이면 서명은 되지만 JWKS 로 공개한 키로 아무도 검증하지 못하므로 시작할 때 걸러낸다
+    private static void verifyKeyPair(ECPrivateKey privateKey, ECPublicKey publicKey) {
+        byte[] probe = "jwt-signing-key-probe".getBytes(StandardCharsets.UTF_8);
+        try {
+            Signature signer = Signature.getInstance("SHA256withECDSA");
+            signer.initSign(privateKey);
+            signer.update(probe);
+            byte[] signature = signer.sign();
+
+            Signature verifier = Signature.getInstance("SHA256withECDSA");
+            verifier.initVerify(publicKey);
+            verifier.update(probe);
+            if (!verifier.verify(signature)) {
+                throw new IllegalStateException("jwt.private_key and jwt.public_key are not a key pair");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to verify ES256 key pair", e);
+        }
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to generate ES256 key", e);
+        }
+    }
+
+    private static Map<String, String> toJwk(String keyId, ECPublicKey publicKey) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", CURVE);
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", JwtSigningAlgorithm.ES256.name());
+        jwk.put("x", base64Url(coordinate(publicKey.getW().getAffineX())));
+        jwk.put("y", base64Url(coordinate(publicKey.getW().getAffineY())));
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    // RFC 7638: 필수 멤버만 사전순으로 직렬화한 JSON 의 SHA-256
+    private static String thumbprint(ECPublicKey publicKey) {
+        String canonical = "{\"crv\":\"" + CURVE + "\",\"kty\":\"EC\""
+                + ",\"x\":\"" + base64Url(coordinate(publicKey.getW().getAffineX())) + "\""
+                + ",\"y\":\"" + base64Url(coordinate(publicKey.getW().getAffineY())) + "\"}";
+        return base64Url(sha256(canonical));
+    }
+
+    // BigInteger 는 부호 바이트가 붙거나 앞의 0 이 빠지므로 32 바이트로 맞춘다
+    private static byte[] coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[COORDINATE_BYTES];
+        int length = Math.min(bytes.length, COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, fixed, COORDINATE_BYTES - length, length);
+        return fixed;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 만료 검증도 같은 Clock 으로 하도록 verifier 에 넘긴다
+    record SigningKey(String source, Algorithm algorithm, JWTVerifier verifier) {
+
+        private static SigningKey of(String source, Algorithm algorithm, Clock clock) {
+            return new SigningKey(source, algorithm, ((JWTVerifier.BaseVerification) JWT.require(algorithm)).build(clock));
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package com.leedahun.storecaseidentity.domain.auth.util;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.leedahun.storecaseidentity.domain.auth.constant.JwtConstants;
 import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import com.leedahun.storecaseidentity.domain.auth.dto.AccessTokenClaims;
 import com.leedahun.storecaseidentity.domain.auth.dto.LoginUser;
+import com.leedahun.storecaseidentity.domain.auth.dto.RefreshTokenClaims;
 import com.leedahun.storecaseidentity.domain.auth.entity.Role;
 import com.leedahun.storecaseidentity.domain.auth.exception.InvalidJwtTokenException;
 import com.leedahun.storecaseidentity.domain.auth.exception.JwtTokenExpiredException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.Date;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -22,38 +27,114 @@ import org.springframework.stereotype.Component;
 public class JwtUtil {
 
     private final JwtProperties jwtProperties;
+    private final Clock clock;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final JwtSigningKeys jwtSigningKeys;
 
-    public String createAccessToken(Long userId, Role role) {
-        return createToken(userId, role, jwtProperties.getExpirationTime());
+    // sid 는 refresh token family 와 같은 값이라 로그아웃하면 그 로그인에서 발급된 access token 을 한꺼번에 거절할 수 있다
+    public String createAccessToken(Long userId, Role role, String sessionId) {
+        return createToken(userId, role, jwtProperties.getExpirationTime())
+                .withJWTId(UUID.randomUUID().toString())
+                .withClaim(JwtConstants.CLAIM_SESSION_ID, sessionId)
+                .sign(jwtSigningKeys.current().algorithm());
     }
 
-    public String createRefreshToken(Long userId, Role role) {
-        return createToken(userId, role, jwtProperties.getRefreshExpirationTime());
+    // jti 는 재발급마다 바뀌고 fid 는 로그인 한 번 동안 유지된다
+    public String createRefreshToken(Long userId, Role role, String tokenId, String familyId) {
+        return createToken(userId, role, jwtProperties.getRefreshExpirationTime())
+                .withJWTId(tokenId)
+                .withClaim(JwtConstants.CLAIM_FAMILY_ID, familyId)
+                .sign(jwtSigningKeys.current().algorithm());
     }
 
-    private String createToken(Long id, Role role, long expirationTime) {
+    private JWTCreator.Builder createToken(Long id, Role role, long expirationTime) {
         return JWT.create()
                 .withSubject(JwtConstants.CLAIM_SUBJECT)
-                .withExpiresAt(new Date(System.currentTimeMillis() + expirationTime))
+                .withExpiresAt(new Date(clock.millis() + expirationTime))
                 .withClaim(JwtConstants.CLAIM_ID, id)
-                .withClaim(JwtConstants.CLAIM_ROLE, role.name())
-                .sign(Algorithm.HMAC512(jwtProperties.getSecret()));
+                .withClaim(JwtConstants.CLAIM_ROLE, role.name());
     }
 
     public LoginUser verify(String token) {
+        return verifyAccessToken(token).getLoginUser();
+    }
+
+    // refresh token 은 서버에서 폐기할 수 있어야 하므로 access token 자리에는 받지 않는다
+    public AccessTokenClaims verifyAccessToken(String token) {
+        DecodedJWT decodedJWT = decode(token);
+        if (!decodedJWT.getClaim(JwtConstants.CLAIM_FAMILY_ID).isMissing()) {
+            throw new InvalidJwtTokenException();
+        }
+
+        Date expiresAt = decodedJWT.getExpiresAt();
+        AccessTokenClaims claims = AccessTokenClaims.builder()
+                .loginUser(LoginUser.builder()
+                        .id(decodedJWT.getClaim(JwtConstants.CLAIM_ID).asLong())
+                        .role(decodedJWT.getClaim(JwtConstants.CLAIM_ROLE).asString())
+                        .build())
+                .tokenId(decodedJWT.getId())
+                .sessionId(decodedJWT.getClaim(JwtConstants.CLAIM_SESSION_ID).asString())
+                .expiresAtMillis(expiresAt == null ? 0L : expiresAt.getTime())
+                .build();
+        if (isRevoked(claims)) {
+            throw new InvalidJwtTokenException();
+        }
+        return claims;
+    }
+
+    // 이미 검증한 토큰도 그 사이 폐기됐을 수 있으므로 캐시에서 꺼낼 때마다 확인한다
+    public boolean isRevoked(AccessTokenClaims claims) {
+        return accessTokenDenylist.isRevoked(claims.getTokenId())
+                || accessTokenDenylist.isRevoked(claims.getSessionId());
+    }
+
+    public RefreshTokenClaims verifyRefreshToken(String token) {
+        DecodedJWT decodedJWT = decode(token);
+        String familyId = decodedJWT.getClaim(JwtConstants.CLAIM_FAMILY_ID).asString();
+        if (decodedJWT.getId() == null && familyId == null && isLegacyRefreshToken(decodedJWT)) {
+            return legacyRefreshTokenClaims(decodedJWT, token);
+        }
+        if (decodedJWT.getId() == null || familyId == null) {
+            throw new InvalidJwtTokenException();
+        }
+
+        return RefreshTokenClaims.builder()
+                .userId(decodedJWT.getClaim(JwtConstants.CLAIM_ID).asLong())
+                .role(decodedJWT.getClaim(JwtConstants.CLAIM_ROLE).asString())
+                .tokenId(decodedJWT.getId())
+                .familyId(familyId)
+                .build();
+    }
+
+    /**
+     * jti, fid 를 넣기 전에는 access token 과 refresh token 의 claim 이 같았으므로 남은 수명으로 구분한다.
+     * access token 수명보다 오래 남았다면 refresh token 이고, 그보다 짧게 남은 이전 토큰은 받지 않는다(다시 로그인).
+     * 이전 토큰은 길어야 refresh token 수명 안에 모두 만료되므로 배포 후 그 기간만 받아들이게 된다.
+     */
+    private boolean isLegacyRefreshToken(DecodedJWT decodedJWT) {
+        Date expiresAt = decodedJWT.getExpiresAt();
+        return expiresAt != null && expiresAt.getTime() - clock.millis() > jwtProperties.getExpirationTime();
+    }
+
+    // 같은 토큰이면 항상 같은 family 가 되도록 토큰 값에서 id 를 만들어, 두 번째 사용은 재사용으로 감지되게 한다
+    private RefreshTokenClaims legacyRefreshTokenClaims(DecodedJWT decodedJWT, String token) {
+        String familyId = UUID.nameUUIDFromBytes(token.getBytes(StandardCharsets.UTF_8)).toString();
+        return RefreshTokenClaims.builder()
+                .userId(decodedJWT.getClaim(JwtConstants.CLAIM_ID).asLong())
+                .role(decodedJWT.getClaim(JwtConstants.CLAIM_ROLE).asString())
+                .tokenId(familyId)
+                .familyId(familyId)
+                .legacy(true)
+                .build();
+    }
+
+    private DecodedJWT decode(String token) {
         try {
-            DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(jwtProperties.getSecret()))
-                    .build()
-                    .verify(token);
-
-            return LoginUser.builder()
-                    .id(decodedJWT.getClaim(JwtConstants.CLAIM_ID).asLong())
-                    .role(decodedJWT.getClaim(JwtConstants.CLAIM_ROLE).asString())
-                    .build();
+            return jwtSigningKeys.current().verifier().verify(token);
         } catch (TokenExpiredException e) {
             throw new JwtTokenExpiredException();
         } catch (JWTVerificationException e) {
             throw new InvalidJwtTokenException();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.unbescape.html.HtmlEscape;
+
+/**
+ * 인증 메일 템플릿을 기동 시 한 번만 렌더링해 두고, 요청마다 email, code, expiresMinutes, year 만 끼워 넣는다.
+ * <p>
+ * 웹 화면용 spring.thymeleaf 설정(cache: false)과 무관하게 전용 TemplateEngine 으로 렌더링하며,
+ * 각 변수 자리에 센티널 값을 넣어 렌더링한 결과를 고정 문자열 조각과 변수 슬롯으로 나눠 둔다.
+ * 변수 값은 th:text 와 같은 방식(HTML4/XML escape)으로 escape 한다.
+ */
+@Slf4j
+@Component
+public class VerificationEmailRenderer {
+
+    private static final String TEMPLATE = "email/verification";
+    private static final String BRAND_NAME = "Store Case";
+
+    private final Clock clock;
+    private final List<Fragment> fragments;
+    private final int staticLength;
+
+    public VerificationEmailRenderer(Clock clock) {
+        this.clock = clock;
+        String rendered = createTemplateEngine().process(TEMPLATE, sentinelContext());
+        this.fragments = split(rendered);
+        this.staticLength = fragments.stream()
+                .filter(fragment -> fragment.slot() == null)
+                .mapToInt(fragment -> fragment.text().length())
+                .sum();
+        log.info("Verification email template pre-rendered. fragments={}, staticLength={}", fragments.size(), staticLength);
+    }
+
+    public String render(String email, String code, int expiresMinutes) {
+        String escapedEmail = HtmlEscape.escapeHtml4Xml(email);
+        String escapedCode = HtmlEscape.escapeHtml4Xml(code);
+        String minutes = Integer.toString(expiresMinutes);
+        String year = Integer.toString(Year.now(clock).getValue());
+
+        StringBuilder html = new StringBuilder(staticLength + escapedEmail.length() + escapedCode.length() + 16);
+        for (Fragment fragment : fragments) {
+            if (fragment.slot() == null) {
+                html.append(fragment.text());
+                continue;
+            }
+            switch (fragment.slot()) {
+                case EMAIL -> html.append(escapedEmail);
+                case CODE -> html.append(escapedCode);
+                case EXPIRES_MINUTES -> html.append(minutes);
+                case YEAR -> html.append(year);
+            }
+        }
+        return html.toString();
+    }
+
+    private static TemplateEngine createTemplateEngine() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(true);
+
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        return templateEngine;
+    }
+
+    private static Context sentinelContext() {
+        Context context = new Context();
+        context.setVariable("brandName", BRAND_NAME);
+        for (Slot slot : Slot.values()) {
+            context.setVariable(slot.variable, slot.sentinel);
+        }
+        return context;
+    }
+
+    private static List<Fragment> split(String rendered) {
+        List<Fragment> fragments = new ArrayList<>();
+        Set<Slot> found = EnumSet.noneOf(Slot.class);
+
+        int position = 0;
+        while (position < rendered.length()) {
+            int next = -1;
+            Slot nextSlot = null;
+            for (Slot slot : Slot.values()) {
+                int index = rendered.indexOf(slot.sentinel, position);
+                if (index >= 0 && (next < 0 || index < next)) {
+                    next = index;
+                    nextSlot = slot;
+                }
+            }
+            if (nextSlot == null) {
+                fragments.add(Fragment.text(rendered.substring(position)));
+                break;
+            }
+            if (next > position) {
+                fragments.add(Fragment.text(rendered.substring(position, next)));
+            }
+            fragments.add(Fragment.slot(nextSlot));
+            found.add(nextSlot);
+            position = next + nextSlot.sentinel.length();
+        }
+
+        for (Slot slot : Slot.values()) {
+            if (!found.contains(slot)) {
+                throw new IllegalStateException("Verification email template does not render ${" + slot.variable + "}");
+            }
+        }
+        return List.copyOf(fragments);
+    }
+
+    private enum Slot {
+        EMAIL("email"),
+        CODE("code"),
+        EXPIRES_MINUTES("expiresMinutes"),
+        YEAR("year");
+
+        private final String variable;
+        private final String sentinel;
+
+        Slot(String variable) {
+            this.variable = variable;
+            this.sentinel = "__VERIFICATION_" + name() + "__";
+        }
+    }
+
+    private record Fragment(String text, Slot slot) {
+
+        static Fragment text(String text) {
+            return new Fragment(text, null);
+        }
+
+        static Fragment slot(Slot slot) {
+            return new Fragment(null, slot);
+        }
+    }
+}
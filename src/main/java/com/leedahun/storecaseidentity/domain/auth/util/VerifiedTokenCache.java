@@ -0,0 +1,106 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import com.leedahun.storecaseidentity.domain.auth.dto.AccessTokenClaims;
+import com.leedahun.storecaseidentity.domain.auth.dto.LoginUser;
+import com.leedahun.storecaseidentity.domain.auth.exception.InvalidJwtTokenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증과 claim 디코딩을 마친 access token 을 토큰의 exp 까지 보관한다.
+ * 같은 토큰으로 들어오는 요청은 서명을 다시 확인하지 않고 폐기 여부만 확인한다.
+ * <p>
+ * 원문 토큰을 메모리에 남기지 않도록 SHA-256 해시를 키로 쓴다.
+ * 약한 해시를 쓰면 충돌하는 토큰을 만들어 다른 사용자의 인증을 가져갈 수 있으므로 암호학적 해시를 쓴다.
+ * maxEntries 에 닿으면 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 새 토큰은 캐시하지 않고 매번 검증한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final ConcurrentHashMap<TokenKey, AccessTokenClaims> entries = new ConcurrentHashMap<>();
+    private final JwtUtil jwtUtil;
+    private final Clock clock;
+    private final int maxEntries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              Clock clock,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.verified_cache_max_entries:10000}") int maxEntries) {
+        this.jwtUtil = jwtUtil;
+        this.clock = clock;
+        this.maxEntries = maxEntries;
+        this.hitCounter = cacheCounter(meterRegistry, "hit");
+        this.missCounter = cacheCounter(meterRegistry, "miss");
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.token.cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public LoginUser verify(String token) {
+        TokenKey key = TokenKey.of(token);
+        AccessTokenClaims cached = entries.get(key);
+        if (cached != null) {
+            if (cached.getExpiresAtMillis() <= clock.millis()) {
+                // 만료 예외는 JwtUtil 이 판단하도록 캐시에서 빼고 다시 검증한다
+                entries.remove(key, cached);
+            } else if (jwtUtil.isRevoked(cached)) {
+                entries.remove(key, cached);
+                throw new InvalidJwtTokenException();
+            } else {
+                hitCounter.increment();
+                return cached.getLoginUser();
+            }
+        }
+
+        missCounter.increment();
+        AccessTokenClaims claims = jwtUtil.verifyAccessToken(token);
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+        }
+        if (entries.size() < maxEntries) {
+            entries.putIfAbsent(key, claims);
+        }
+        return claims.getLoginUser();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.verified_cache_purge_millis:60000}")
+    public void evictExpired() {
+        long now = clock.millis();
+        entries.values().removeIf(claims -> claims.getExpiresAtMillis() <= now);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private record TokenKey(long h0, long h1, long h2, long h3) {
+
+        static TokenKey of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenKey(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+CREATE TABLE email_outbox
+(
+    id              BIGINT                    NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(120),
+    subject         VARCHAR(255),
+    body            TEXT,
+    status          ENUM ('FAILED','PENDING'),
+    attempt_count   INTEGER,
+    next_attempt_at DATETIME(6),
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_email_outbox_status_next_attempt_at (status, next_attempt_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- findTopByEmailAndPurposeOrderByIdDesc: (email, purpose) 로 seek 후 id 역순 첫 행만 읽는다
+CREATE INDEX idx_email_verification_email_purpose_id
+    ON email_verification (email, purpose, id DESC)
+    ALGORITHM = INPLACE LOCK = NONE;
+
+-- 중복 이메일이 남아 있으면 생성에 실패하므로 먼저 확인한다
+-- SELECT email, COUNT(*) FROM `user` GROUP BY email HAVING COUNT(*) > 1;
+CREATE UNIQUE INDEX ux_user_email
+    ON `user` (email)
+    ALGORITHM = INPLACE LOCK = NONE;
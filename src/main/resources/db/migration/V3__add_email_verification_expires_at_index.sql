@@ -0,0 +1,4 @@
+-- EmailVerificationPurgeJob: 만료 시각 범위로 삭제 대상 id 를 찾는다
+CREATE INDEX idx_email_verification_expires_at
+    ON email_verification (expires_at)
+    ALGORITHM = INPLACE LOCK = NONE;
@@ -0,0 +1,15 @@
+-- 재발급은 family_id(PK) 한 건을 조건부 UPDATE 하고, 만료 정리는 expires_at 범위로 찾는다
+CREATE TABLE refresh_token_family
+(
+    family_id  VARCHAR(36) NOT NULL,
+    user_id    BIGINT,
+    token_id   VARCHAR(36),
+    rotation   INTEGER,
+    expires_at DATETIME(6),
+    revoked    BIT         NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (family_id),
+    INDEX idx_refresh_token_family_user_id (user_id),
+    INDEX idx_refresh_token_family_expires_at (expires_at)
+) ENGINE = InnoDB;
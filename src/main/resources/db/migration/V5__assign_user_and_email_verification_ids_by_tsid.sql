@@ -0,0 +1,11 @@
+-- user, email_verification 의 id 는 이제 애플리케이션이 Tsid 로 정해 insert 에 직접 넣는다.
+-- 컬럼 타입(BIGINT)은 그대로이므로 기존 행은 옮기지 않는다.
+--  * Tsid 는 (2024-01-01 이후 밀리초 << 12) 이상이라 기존 AUTO_INCREMENT 값과 겹치지 않고 항상 더 크다.
+--    따라서 (email, purpose, id DESC) 인덱스로 최신 인증을 고르는 순서도 유지된다.
+--  * AUTO_INCREMENT 속성은 남겨 둔다. 이전 버전으로 되돌리면 카운터가 MAX(id) + 1 부터 이어서 insert 가 동작한다.
+--
+-- 배포 전 확인: 두 값이 모두 Tsid 최솟값(약 3 * 10^14)보다 작아야 한다
+-- SELECT MAX(id) FROM `user`;
+-- SELECT MAX(id) FROM email_verification;
+--
+-- 인스턴스마다 TSID_NODE(0~15)를 다르게 설정한다.
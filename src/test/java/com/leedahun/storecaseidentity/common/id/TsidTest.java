@@ -0,0 +1,79 @@
+package com.leedahun.storecaseidentity.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TsidTest {
+
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @AfterEach
+    void tearDown() {
+        Tsid.configureNode(0);
+    }
+
+    // 다른 테스트가 이미 만든 id 보다 뒤의 시각을 써야 시계가 뒤로 간 경우로 처리되지 않는다
+    private static long futureMillis() {
+        return Tsid.millisOf(Tsid.next()) + 1_000;
+    }
+
+    @Test
+    @DisplayName("같은 밀리초 안에서도 단조 증가하고, 만든 시각과 node 를 담는다")
+    void next_isMonotonicAndEncodesTimeAndNode() {
+        // given
+        Tsid.configureNode(5);
+        long now = futureMillis();
+
+        // when
+        long first = Tsid.next(now);
+        long second = Tsid.next(now);
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(Tsid.millisOf(first)).isEqualTo(now);
+        assertThat((first >>> Tsid.SEQUENCE_BITS) & Tsid.MAX_NODE).isEqualTo(5);
+        assertThat(first).isLessThanOrEqualTo(MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    @DisplayName("한 밀리초의 순번을 다 쓰거나 시계가 뒤로 가도 중복 없이 증가한다")
+    void next_overflowAndClockBackward_stayUnique() {
+        // given
+        Tsid.configureNode(1);
+        long now = futureMillis();
+        Set<Long> ids = new HashSet<>();
+        long previous = 0;
+
+        // when & then
+        for (int i = 0; i < 1_000; i++) {
+            long id = Tsid.next(i % 2 == 0 ? now : now - 10);
+            assertThat(id).isGreaterThan(previous);
+            assertThat(ids.add(id)).isTrue();
+            previous = id;
+        }
+        assertThat(Tsid.millisOf(previous)).isGreaterThan(now);
+    }
+
+    @Test
+    @DisplayName("기존 AUTO_INCREMENT 값보다 항상 크다")
+    void next_isAboveLegacyIdentityRange() {
+        // when
+        long id = Tsid.next();
+
+        // then
+        assertThat(id).isGreaterThan(1L << 40);
+    }
+
+    @Test
+    @DisplayName("node 범위를 벗어나면 IllegalArgumentException 발생")
+    void configureNode_outOfRange_throws() {
+        assertThatThrownBy(() -> Tsid.configureNode(Tsid.MAX_NODE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,160 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailSendFailedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AsyncEmailDispatcherTest {
+
+    private static final String TO = "user@test.com";
+    private static final String SUBJECT = "[StoreCase] 테스트";
+    private static final String TEXT = "<p>본문</p>";
+
+    private EmailClient emailClient;
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncEmailDispatcher emailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        emailClient = mock(EmailClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        emailDispatcher = new AsyncEmailDispatcher(emailClient, meterRegistry, 1, 10, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        emailDispatcher.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 요청하면 워커 풀에서 바로 발송한다")
+    void dispatch_withoutTransaction_sendsAsynchronously() {
+        // when
+        emailDispatcher.dispatch(TO, SUBJECT, TEXT);
+
+        // then
+        verify(emailClient, timeout(1_000)).sendOneEmail(TO, SUBJECT, TEXT);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 요청하면 커밋 이후에 발송한다")
+    void dispatch_withinTransaction_sendsAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        emailDispatcher.dispatch(TO, SUBJECT, TEXT);
+
+        // then
+        verify(emailClient, never()).sendOneEmail(anyString(), anyString(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(emailClient, timeout(1_000)).sendOneEmail(TO, SUBJECT, TEXT);
+    }
+
+    @Test
+    @DisplayName("발송에 실패하면 backoff 후 재시도한다")
+    void dispatch_failure_retriesWithBackoff() {
+        // given
+        willThrow(new EmailSendFailedException())
+                .willDoNothing()
+                .given(emailClient).sendOneEmail(TO, SUBJECT, TEXT);
+
+        // when
+        emailDispatcher.dispatch(TO, SUBJECT, TEXT);
+
+        // then
+        verify(emailClient, timeout(1_000).times(2)).sendOneEmail(TO, SUBJECT, TEXT);
+        assertThat(meterRegistry.get("mail.dispatch").tag("result", "retried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 소진하면 실패로 집계하고 더 이상 발송하지 않는다")
+    void dispatch_exhaustedRetries_countsFailure() throws InterruptedException {
+        // given
+        willThrow(new EmailSendFailedException()).given(emailClient).sendOneEmail(TO, SUBJECT, TEXT);
+
+        // when
+        emailDispatcher.dispatch(TO, SUBJECT, TEXT);
+
+        // then
+        verify(emailClient, timeout(1_000).times(3)).sendOneEmail(TO, SUBJECT, TEXT);
+        Thread.sleep(100);
+        verify(emailClient, times(3)).sendOneEmail(TO, SUBJECT, TEXT);
+        assertThat(meterRegistry.get("mail.dispatch").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    // 워커 하나뿐이고 큐 용량이 1 이며, release 전까지 발송이 멈춰 있는 dispatcher
+    private AsyncEmailDispatcher blockingDispatcher(CountDownLatch release) throws InterruptedException {
+        emailDispatcher.shutdown();
+        willAnswer(invocation -> {
+            release.await();
+            return null;
+        }).given(emailClient).sendOneEmail(anyString(), anyString(), anyString());
+        emailDispatcher = new AsyncEmailDispatcher(emailClient, meterRegistry, 1, 1, 0, 10);
+        return emailDispatcher;
+    }
+
+    // 첫 메일은 워커가 잡고 멈춰 있고, 두 번째 메일로 큐를 채운다
+    private void fillQueue(AsyncEmailDispatcher dispatcher) {
+        dispatcher.dispatch("first@test.com", SUBJECT, TEXT);
+        verify(emailClient, timeout(1_000)).sendOneEmail("first@test.com", SUBJECT, TEXT);
+        dispatcher.dispatch("second@test.com", SUBJECT, TEXT);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 큐가 가득 차 있으면 커밋 전에 EmailSendFailedException 발생")
+    void dispatch_withinTransaction_queueFull_rejectsBeforeCommit() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncEmailDispatcher dispatcher = blockingDispatcher(release);
+        fillQueue(dispatcher);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when & then
+        assertThatThrownBy(() -> dispatcher.dispatch(TO, SUBJECT, TEXT))
+                .isInstanceOf(EmailSendFailedException.class);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("커밋 이후에 큐가 가득 차 넣지 못하면 예외 없이 rejected 로 집계한다")
+    void dispatch_queueFilledBeforeCommit_doesNotThrowAfterCommit() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncEmailDispatcher dispatcher = blockingDispatcher(release);
+        TransactionSynchronizationManager.initSynchronization();
+        dispatcher.dispatch(TO, SUBJECT, TEXT);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        fillQueue(dispatcher);
+
+        // when & then
+        assertThatNoException().isThrownBy(() -> synchronizations.forEach(TransactionSynchronization::afterCommit));
+        assertThat(meterRegistry.get("mail.dispatch").tag("result", "rejected").counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+}
@@ -1,21 +1,28 @@
 package com.leedahun.storecaseidentity.common.mail;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailSendFailedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,11 +34,13 @@ class EmailClientTest {
     @Mock
     private MimeMessage mimeMessage;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private EmailClient emailClient;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emailClient = new EmailClient(mailSender, meterRegistry);
         when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
     }
 
@@ -49,6 +58,8 @@ class EmailClientTest {
         // then
         verify(mailSender, times(1)).createMimeMessage();
         verify(mailSender, times(1)).send(mimeMessage);
+        assertThat(meterRegistry.get("mail.send").tag("operation", "single").tag("result", "success").timer().count())
+                .isEqualTo(1);
     }
 
     @Test
@@ -68,4 +79,27 @@ class EmailClientTest {
         verify(mailSender, times(1)).createMimeMessage();
         verify(mailSender, never()).send(any(MimeMessage.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("sendBatch 는 한 번의 send 로 보내고 실패한 메일만 반환한다")
+    void sendBatch_partialFailure_returnsFailedMessages() {
+        // given
+        MimeMessage second = mock(MimeMessage.class);
+        when(mailSender.createMimeMessage()).thenReturn(mimeMessage, second);
+
+        MessagingException cause = new MessagingException("550 rejected");
+        doThrow(new MailSendException(Map.of(second, cause)))
+                .when(mailSender).send(any(MimeMessage[].class));
+
+        EmailMessage ok = new EmailMessage("ok@example.com", "제목", "<p>본문</p>");
+        EmailMessage rejected = new EmailMessage("rejected@example.com", "제목", "<p>본문</p>");
+
+        // when
+        Map<EmailMessage, Exception> failures = emailClient.sendBatch(List.of(ok, rejected));
+
+        // then
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        assertThat(failures).containsOnlyKeys(rejected);
+        assertThat(failures.get(rejected)).isSameAs(cause);
+    }
+}
@@ -0,0 +1,187 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.leedahun.storecaseidentity.common.mail.entity.EmailOutbox;
+import com.leedahun.storecaseidentity.common.mail.entity.EmailOutboxStatus;
+import com.leedahun.storecaseidentity.common.mail.repository.EmailOutboxRepository;
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailSendFailedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class EmailOutboxRelayTest {
+
+    private EmailOutboxRepository emailOutboxRepository;
+    private EmailClient emailClient;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxRelay emailOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+        emailClient = mock(EmailClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        emailOutboxRelay = new EmailOutboxRelay(emailOutboxRepository, emailClient,
+                mock(PlatformTransactionManager.class), meterRegistry, Clock.systemDefaultZone(), 10, 60_000, 2, 1_000, 5_000, 5_000);
+    }
+
+    private EmailOutbox outbox(Long id, String to, int attemptCount) {
+        return EmailOutbox.builder()
+                .id(id)
+                .recipient(to)
+                .subject("[StoreCase] 테스트")
+                .body("<p>본문</p>")
+                .attemptCount(attemptCount)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    private Map<EmailMessage, Exception> failAll(List<EmailMessage> messages, String to) {
+        Map<EmailMessage, Exception> failures = new HashMap<>();
+        messages.stream()
+                .filter(message -> message.getTo().equals(to))
+                .forEach(message -> failures.put(message, new EmailSendFailedException()));
+        return failures;
+    }
+
+    @Test
+    @DisplayName("가져간 행은 lease 만큼 다음 시도 시각을 미룬다")
+    void claim_leasesClaimedRows() {
+        // given
+        EmailOutbox outbox = outbox(1L, "a@test.com", 0);
+        given(emailOutboxRepository.findClaimable(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(outbox));
+
+        // when
+        List<EmailOutbox> claimed = emailOutboxRelay.claim();
+
+        // then
+        assertThat(claimed).containsExactly(outbox);
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+    }
+
+    @Test
+    @DisplayName("발송에 성공한 행은 한 번에 삭제한다")
+    void relay_success_deletesSentRows() {
+        // given
+        given(emailOutboxRepository.findClaimable(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(outbox(1L, "a@test.com", 0), outbox(2L, "b@test.com", 0)));
+
+        // when
+        emailOutboxRelay.relay();
+
+        // then
+        verify(emailClient).sendBatch(argThat(messages -> messages.size() == 2));
+        verify(emailOutboxRepository).deleteByIds(List.of(1L, 2L));
+        assertThat(meterRegistry.get("mail.dispatch").tag("result", "sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("발송에 실패한 행은 삭제하지 않고 backoff 후 다시 시도하도록 남긴다")
+    void relay_failure_schedulesRetry() {
+        // given
+        EmailOutbox failing = outbox(2L, "b@test.com", 0);
+        given(emailOutboxRepository.findClaimable(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(outbox(1L, "a@test.com", 0), failing));
+        given(emailClient.sendBatch(anyList())).willAnswer(invocation -> failAll(invocation.getArgument(0), "b@test.com"));
+        given(emailOutboxRepository.findById(2L)).willReturn(Optional.of(failing));
+
+        // when
+        emailOutboxRelay.relay();
+
+        // then
+        verify(emailOutboxRepository).deleteByIds(List.of(1L));
+        assertThat(failing.getAttemptCount()).isEqualTo(1);
+        assertThat(failing.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(failing.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(meterRegistry.get("mail.dispatch").tag("result", "retried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 소진하면 FAILED 로 남긴다")
+    void relay_exhaustedRetries_marksFailed() {
+        // given
+        EmailOutbox failing = outbox(1L, "a@test.com", 2);
+        given(emailOutboxRepository.findClaimable(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(failing));
+        given(emailClient.sendBatch(anyList())).willAnswer(invocation -> failAll(invocation.getArgument(0), "a@test.com"));
+        given(emailOutboxRepository.findById(1L)).willReturn(Optional.of(failing));
+
+        // when
+        emailOutboxRelay.relay();
+
+        // then
+        verify(emailOutboxRepository, never()).deleteByIds(any());
+        assertThat(failing.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(meterRegistry.get("mail.dispatch").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lease 안에 최악의 경우에도 다 보낼 수 있는 만큼만 한 번에 가져간다")
+    void batchSize_cappedByLease() {
+        // when
+        EmailOutboxRelay relay = new EmailOutboxRelay(emailOutboxRepository, emailClient,
+                mock(PlatformTransactionManager.class), meterRegistry, Clock.systemDefaultZone(), 50, 60_000, 2, 1_000, 5_000, 5_000);
+
+        // then
+        assertThat(relay.batchSize()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("lease 가 메일 한 통의 최악 소요 시간보다 짧으면 시작하지 않는다")
+    void leaseShorterThanOneMessage_failsStartup() {
+        assertThatThrownBy(() -> new EmailOutboxRelay(emailOutboxRepository, emailClient,
+                mock(PlatformTransactionManager.class), meterRegistry, Clock.systemDefaultZone(), 50, 5_000, 2, 1_000, 5_000, 5_000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("SMTP 타임아웃이 없으면 lease 를 보장할 수 없으므로 시작하지 않는다")
+    void missingSmtpTimeout_failsStartup() {
+        assertThatThrownBy(() -> new EmailOutboxRelay(emailOutboxRepository, emailClient,
+                mock(PlatformTransactionManager.class), meterRegistry, Clock.systemDefaultZone(), 50, 60_000, 2, 1_000, 0, 5_000))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("발송 전에 lease 가 곧 끝나면 보내지 않고 행을 되돌려 놓는다")
+    void relay_leaseAboutToExpire_releasesWithoutSending() {
+        // given
+        Instant claimedAt = Instant.parse("2026-01-01T00:00:00Z");
+        Clock clock = mock(Clock.class);
+        given(clock.getZone()).willReturn(ZoneOffset.UTC);
+        given(clock.instant()).willReturn(claimedAt, claimedAt.plusSeconds(55));
+        EmailOutboxRelay relay = new EmailOutboxRelay(emailOutboxRepository, emailClient,
+                mock(PlatformTransactionManager.class), meterRegistry, clock, 10, 60_000, 2, 1_000, 5_000, 5_000);
+        given(emailOutboxRepository.findClaimable(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(outbox(1L, "a@test.com", 0), outbox(2L, "b@test.com", 0)));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(emailClient, never()).sendBatch(anyList());
+        verify(emailOutboxRepository).releaseByIds(List.of(1L, 2L), LocalDateTime.ofInstant(claimedAt.plusSeconds(55), ZoneOffset.UTC));
+    }
+}
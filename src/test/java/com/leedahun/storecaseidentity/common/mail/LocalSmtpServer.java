@@ -0,0 +1,141 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 최소 SMTP 서버. 연결마다 connectLatencyMillis 만큼 지연시켜
+ * 실제 서버의 TCP/TLS 핸드셰이크와 인증 비용을 흉내 내고,
+ * 메일마다 dataLatencyMillis 만큼 지연시켜 느린 SMTP 서버를 흉내 낸다.
+ */
+class LocalSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private final long connectLatencyMillis;
+    private final long dataLatencyMillis;
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicInteger messageCount = new AtomicInteger();
+    private final AtomicInteger dropAfterMessage = new AtomicInteger(-1);
+
+    LocalSmtpServer(long connectLatencyMillis) throws IOException {
+        this(connectLatencyMillis, 0);
+    }
+
+    LocalSmtpServer(long connectLatencyMillis, long dataLatencyMillis) throws IOException {
+        this.connectLatencyMillis = connectLatencyMillis;
+        this.dataLatencyMillis = dataLatencyMillis;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::acceptLoop);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    int getMessageCount() {
+        return messageCount.get();
+    }
+
+    // 서버가 유휴 연결을 끊은 상황을 만든다
+    void dropConnections() throws IOException {
+        for (Socket client : clients) {
+            client.close();
+        }
+    }
+
+    // 전체 수신 건수가 messages 에 이르면 그 메일에 응답한 뒤 연결을 한 번 끊는다
+    void dropConnectionAfter(int messages) {
+        dropAfterMessage.set(messages);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                clients.add(socket);
+                connectionCount.incrementAndGet();
+                executor.execute(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1)) {
+            Thread.sleep(connectLatencyMillis);
+            reply(out, "220 localhost ESMTP");
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() < 4 ? line : line.substring(0, 4);
+                switch (command.toUpperCase(Locale.ROOT)) {
+                    case "EHLO", "HELO", "MAIL", "RCPT", "RSET", "NOOP" -> reply(out, "250 OK");
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        readData(in);
+                        Thread.sleep(dataLatencyMillis);
+                        int received = messageCount.incrementAndGet();
+                        reply(out, "250 OK");
+                        if (dropAfterMessage.compareAndSet(received, -1)) {
+                            return;
+                        }
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트나 dropConnections 가 연결을 끊은 경우
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            clients.remove(socket);
+        }
+    }
+
+    private static void readData(BufferedReader in) throws IOException {
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            // 본문은 버린다
+        }
+    }
+
+    private static void reply(Writer out, String response) throws IOException {
+        out.write(response);
+        out.write("\r\n");
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        dropConnections();
+        executor.shutdownNow();
+    }
+}
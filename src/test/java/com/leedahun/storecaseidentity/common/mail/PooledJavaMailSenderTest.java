@@ -0,0 +1,159 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+@Slf4j
+class PooledJavaMailSenderTest {
+
+    private static final int MESSAGES = 20;
+    private static final long CONNECT_LATENCY_MILLIS = 20;
+
+    private LocalSmtpServer smtpServer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new LocalSmtpServer(CONNECT_LATENCY_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtpServer.close();
+    }
+
+    private <T extends JavaMailSenderImpl> T configure(T mailSender) {
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpServer.getPort());
+        Properties properties = new Properties();
+        properties.put("mail.smtp.auth", "false");
+        properties.put("mail.smtp.timeout", "5000");
+        mailSender.setJavaMailProperties(properties);
+        return mailSender;
+    }
+
+    private static List<EmailMessage> messages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new EmailMessage("user" + i + "@test.com", "[StoreCase] 테스트", "<p>" + i + "</p>"))
+                .toList();
+    }
+
+    private double sendOneByOne(EmailClient emailClient) {
+        long start = System.nanoTime();
+        for (EmailMessage message : messages(MESSAGES)) {
+            emailClient.sendOneEmail(message.getTo(), message.getSubject(), message.getText());
+        }
+        return MESSAGES / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    @Test
+    @DisplayName("연결을 재사용하면 메일마다 연결하는 것보다 초당 발송 건수가 높다")
+    void pooledSender_reusesConnection_higherThroughput() {
+        // given
+        EmailClient plainClient = new EmailClient(configure(new JavaMailSenderImpl()), new SimpleMeterRegistry());
+        PooledJavaMailSender pooledSender = configure(new PooledJavaMailSender(2, 30_000));
+        EmailClient pooledClient = new EmailClient(pooledSender, new SimpleMeterRegistry());
+
+        // when
+        double plainRate = sendOneByOne(plainClient);
+        int plainConnections = smtpServer.getConnectionCount();
+        double pooledRate = sendOneByOne(pooledClient);
+        int pooledConnections = smtpServer.getConnectionCount() - plainConnections;
+        pooledSender.destroy();
+
+        // then
+        log.info("plain: {} msg/s over {} connections, pooled: {} msg/s over {} connections",
+                String.format("%.1f", plainRate), plainConnections, String.format("%.1f", pooledRate), pooledConnections);
+        assertThat(smtpServer.getMessageCount()).isEqualTo(MESSAGES * 2);
+        assertThat(plainConnections).isEqualTo(MESSAGES);
+        assertThat(pooledConnections).isEqualTo(1);
+        assertThat(pooledRate).isGreaterThan(plainRate);
+    }
+
+    @Test
+    @DisplayName("sendBatch 는 배치 전체를 하나의 연결로 보낸다")
+    void sendBatch_usesSingleConnection() {
+        // given
+        EmailClient emailClient = new EmailClient(configure(new JavaMailSenderImpl()), new SimpleMeterRegistry());
+
+        // when
+        Map<EmailMessage, Exception> failures = emailClient.sendBatch(messages(MESSAGES));
+
+        // then
+        assertThat(failures).isEmpty();
+        assertThat(smtpServer.getMessageCount()).isEqualTo(MESSAGES);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서버가 유휴 연결을 끊으면 새 연결로 다시 보낸다")
+    void pooledSender_staleConnection_reconnects() throws Exception {
+        // given
+        PooledJavaMailSender pooledSender = configure(new PooledJavaMailSender(2, 30_000));
+        EmailClient emailClient = new EmailClient(pooledSender, new SimpleMeterRegistry());
+        emailClient.sendOneEmail("a@test.com", "[StoreCase] 테스트", "<p>1</p>");
+        assertThat(pooledSender.idleCount()).isEqualTo(1);
+
+        smtpServer.dropConnections();
+
+        // when
+        emailClient.sendOneEmail("b@test.com", "[StoreCase] 테스트", "<p>2</p>");
+        pooledSender.destroy();
+
+        // then
+        assertThat(smtpServer.getMessageCount()).isEqualTo(2);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배치 도중 서버가 연결을 끊으면 그 메일만 실패하고 나머지는 새 연결로 보낸다")
+    void pooledSender_connectionDroppedMidBatch_reconnectsForRest() {
+        // given
+        PooledJavaMailSender pooledSender = configure(new PooledJavaMailSender(2, 30_000));
+        EmailClient emailClient = new EmailClient(pooledSender, new SimpleMeterRegistry());
+        List<EmailMessage> batch = messages(5);
+        smtpServer.dropConnectionAfter(3);
+
+        // when
+        Map<EmailMessage, Exception> failures = emailClient.sendBatch(batch);
+
+        // then
+        assertThat(failures).containsOnlyKeys(batch.get(3));
+        assertThat(smtpServer.getMessageCount()).isEqualTo(4);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(2);
+        assertThat(pooledSender.idleCount()).isEqualTo(1);
+
+        // 풀에 돌아간 연결은 살아 있는 새 연결이어야 한다
+        emailClient.sendOneEmail("c@test.com", "[StoreCase] 테스트", "<p>6</p>");
+        pooledSender.destroy();
+        assertThat(smtpServer.getMessageCount()).isEqualTo(5);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("idle timeout 이 지난 연결은 재사용하지 않는다")
+    void pooledSender_expiredConnection_notReused() throws Exception {
+        // given
+        PooledJavaMailSender pooledSender = configure(new PooledJavaMailSender(2, 10));
+        EmailClient emailClient = new EmailClient(pooledSender, new SimpleMeterRegistry());
+        emailClient.sendOneEmail("a@test.com", "[StoreCase] 테스트", "<p>1</p>");
+        Thread.sleep(50);
+
+        // when
+        emailClient.sendOneEmail("b@test.com", "[StoreCase] 테스트", "<p>2</p>");
+        pooledSender.destroy();
+
+        // then
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(2);
+    }
+}
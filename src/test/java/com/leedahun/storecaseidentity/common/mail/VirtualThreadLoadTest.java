@@ -0,0 +1,169 @@
+package com.leedahun.storecaseidentity.common.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SMTP 서버가 느린 상황에서 요청 처리 스레드 모델과 발송 방식(dispatch.mode)의 조합을 확인한다.
+ * <ul>
+ *     <li>async: 요청 스레드는 JDBC 대기(sleep 으로 대신한다)만 하고 SMTP 발송은 플랫폼 스레드 풀로 넘긴다.</li>
+ *     <li>sync: 요청 스레드가 SyncEmailDispatcher 로 실제 SMTP 소켓 I/O 까지 수행한다.</li>
+ * </ul>
+ * ./gradlew loadTest 로 실행한다.
+ */
+@Slf4j
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final int REQUESTS = 1_000;
+    private static final int PLATFORM_THREADS = 50;         // server.tomcat.threads.max 에 해당
+    private static final long REQUEST_BLOCKING_MILLIS = 50;  // 요청당 JDBC 왕복 대기
+    private static final long SMTP_CONNECT_LATENCY_MILLIS = 200;
+    private static final long SMTP_DATA_LATENCY_MILLIS = 100;
+    private static final int SYNC_REQUESTS = 100;
+
+    private LocalSmtpServer smtpServer;
+    private PooledJavaMailSender mailSender;
+    private AsyncEmailDispatcher emailDispatcher;
+    private SyncEmailDispatcher syncEmailDispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new LocalSmtpServer(SMTP_CONNECT_LATENCY_MILLIS, SMTP_DATA_LATENCY_MILLIS);
+
+        mailSender = new PooledJavaMailSender(PLATFORM_THREADS, 30_000);
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpServer.getPort());
+        Properties properties = new Properties();
+        properties.put("mail.smtp.auth", "false");
+        properties.put("mail.smtp.timeout", "5000");
+        mailSender.setJavaMailProperties(properties);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmailClient emailClient = new EmailClient(mailSender, meterRegistry);
+        emailDispatcher = new AsyncEmailDispatcher(emailClient, meterRegistry, 2, REQUESTS * 2, 0, 0);
+        syncEmailDispatcher = new SyncEmailDispatcher(emailClient);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        // 남은 발송은 서버를 먼저 닫아 빠르게 실패시킨다
+        smtpServer.close();
+        emailDispatcher.shutdown();
+        mailSender.destroy();
+    }
+
+    private Duration handleRequests(ExecutorService requestExecutor) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            String to = "user" + i + "@test.com";
+            futures.add(requestExecutor.submit(() -> {
+                Thread.sleep(REQUEST_BLOCKING_MILLIS);
+                emailDispatcher.dispatch(to, "[StoreCase] 테스트", "<p>본문</p>");
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private Duration handleSyncRequests(ExecutorService requestExecutor) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(SYNC_REQUESTS);
+        for (int i = 0; i < SYNC_REQUESTS; i++) {
+            String to = "user" + i + "@test.com";
+            futures.add(requestExecutor.submit(() -> {
+                syncEmailDispatcher.dispatch(to, "[StoreCase] 테스트", "<p>본문</p>");
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    @Test
+    @DisplayName("async 발송이면 요청 스레드는 JDBC 대기만 하므로 가상 스레드가 고정 크기 플랫폼 풀보다 처리량이 높다")
+    void virtualThreads_asyncDispatch_handleMoreConcurrentRequests() throws Exception {
+        // given
+        Duration platformElapsed;
+        try (ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            platformElapsed = handleRequests(platform);
+        }
+
+        // when
+        Duration virtualElapsed;
+        try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtualElapsed = handleRequests(virtual);
+        }
+
+        // then
+        log.info("async: requests={}, platform({} threads)={} ms ({} req/s), virtual={} ms ({} req/s)",
+                REQUESTS, PLATFORM_THREADS, platformElapsed.toMillis(), throughput(REQUESTS, platformElapsed),
+                virtualElapsed.toMillis(), throughput(REQUESTS, virtualElapsed));
+        assertThat(virtualElapsed).isLessThan(platformElapsed.dividedBy(2));
+    }
+
+    @Test
+    @DisplayName("sync 발송이면 요청 스레드가 JavaMail 의 synchronized 구간에서 소켓을 기다리며 carrier 에 고정된다")
+    void virtualThreads_syncDispatch_pinnedBySmtpTransport() throws Exception {
+        // JDK 24 부터는 synchronized 안에서 대기해도 carrier 에 고정되지 않는다 (JEP 491)
+        assumeTrue(Runtime.version().feature() < 24);
+
+        // given
+        Duration platformElapsed;
+        try (ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            platformElapsed = handleSyncRequests(platform);
+        }
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+
+        // when
+        Duration virtualElapsed;
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinnedEvents::add);
+            recording.startAsync();
+
+            try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+                virtualElapsed = handleSyncRequests(virtual);
+            }
+            recording.stop();
+        }
+
+        // then
+        log.info("sync: requests={}, smtpSent={}, platform({} threads)={} ms ({} req/s), virtual={} ms ({} req/s), pinned={}",
+                SYNC_REQUESTS, smtpServer.getMessageCount(),
+                PLATFORM_THREADS, platformElapsed.toMillis(), throughput(SYNC_REQUESTS, platformElapsed),
+                virtualElapsed.toMillis(), throughput(SYNC_REQUESTS, virtualElapsed),
+                pinnedEvents.size());
+        assertThat(smtpServer.getMessageCount()).isEqualTo(SYNC_REQUESTS * 2);
+        assertThat(pinnedEvents).isNotEmpty();
+    }
+
+    private static long throughput(int requests, Duration elapsed) {
+        return Math.round(requests / (elapsed.toNanos() / 1_000_000_000.0));
+    }
+}
@@ -0,0 +1,44 @@
+package com.leedahun.storecaseidentity.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.leedahun.storecaseidentity.common.metrics.QueryMetricsListener.QueryType;
+import com.p6spy.engine.common.StatementInformation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryMetricsListenerTest {
+
+    @Test
+    @DisplayName("SQL 첫 키워드로 쿼리 종류를 구분한다")
+    void queryType_fromLeadingKeyword() {
+        assertThat(QueryType.of("  select * from user")).isEqualTo(QueryType.SELECT);
+        assertThat(QueryType.of("INSERT into email_outbox values (?)")).isEqualTo(QueryType.INSERT);
+        assertThat(QueryType.of("update user set password=?")).isEqualTo(QueryType.UPDATE);
+        assertThat(QueryType.of("delete from email_verification where id in (?)")).isEqualTo(QueryType.DELETE);
+        assertThat(QueryType.of("commit")).isEqualTo(QueryType.OTHER);
+        assertThat(QueryType.of(null)).isEqualTo(QueryType.OTHER);
+    }
+
+    @Test
+    @DisplayName("실행 결과에 따라 종류별 Timer 에 기록한다")
+    void onAfterAnyExecute_recordsByTypeAndResult() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        QueryMetricsListener listener = new QueryMetricsListener(meterRegistry);
+        StatementInformation statement = mock(StatementInformation.class);
+        given(statement.getSql()).willReturn("select id from user where email=?");
+
+        // when
+        listener.onAfterAnyExecute(statement, 1_000_000L, null);
+        listener.onAfterAnyExecute(statement, 1_000_000L, new SQLException("timeout"));
+
+        // then
+        assertThat(meterRegistry.get("db.query").tag("type", "select").tag("result", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.query").tag("type", "select").tag("result", "error").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.leedahun.storecaseidentity.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowCounterTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("창 안의 기록은 칸이 달라도 합산한다")
+    void increment_sumsAcrossBuckets() {
+        // given
+        SlidingWindowCounter counter = new SlidingWindowCounter(10_000, 10);
+
+        // when
+        counter.increment(NOW);
+        counter.increment(NOW + 1_000);
+        int count = counter.increment(NOW + 5_000);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(counter.count(NOW + 5_000)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("창을 벗어난 칸은 세지 않고, 다음 바퀴에서 기록하면 덮어쓴다")
+    void count_dropsExpiredBuckets() {
+        // given
+        SlidingWindowCounter counter = new SlidingWindowCounter(10_000, 10);
+        counter.increment(NOW);
+        counter.increment(NOW + 5_000);
+
+        // when & then
+        assertThat(counter.count(NOW + 10_000)).isEqualTo(1);
+        assertThat(counter.increment(NOW + 10_000)).isEqualTo(2);
+        assertThat(counter.count(NOW + 20_000)).isZero();
+    }
+
+    @Test
+    @DisplayName("잠그면 기록을 비우고 잠금이 끝날 때까지 idle 로 보지 않는다")
+    void lock_clearsCountsUntilUnlocked() {
+        // given
+        SlidingWindowCounter counter = new SlidingWindowCounter(10_000, 10);
+        counter.increment(NOW);
+
+        // when
+        counter.lock(NOW + 30_000);
+
+        // then
+        assertThat(counter.count(NOW)).isZero();
+        assertThat(counter.lockedUntil()).isEqualTo(NOW + 30_000);
+        assertThat(counter.isIdle(NOW + 1_000)).isFalse();
+        assertThat(counter.isIdle(NOW + 30_000)).isTrue();
+    }
+}
@@ -0,0 +1,105 @@
+package com.leedahun.storecaseidentity.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("capacity 만큼 연속으로 허용하고, 이후에는 다음 토큰까지 남은 시간을 반환한다")
+    void tryAcquire_burstThenReject() {
+        // given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 1_000, 100, 4);
+
+        // when & then
+        assertThat(limiter.tryAcquire("ip-1", NOW)).isZero();
+        assertThat(limiter.tryAcquire("ip-1", NOW)).isZero();
+        assertThat(limiter.tryAcquire("ip-1", NOW)).isZero();
+        assertThat(limiter.tryAcquire("ip-1", NOW)).isEqualTo(1_000);
+        assertThat(limiter.tryAcquire("ip-2", NOW)).isZero();
+    }
+
+    @Test
+    @DisplayName("refillMillis 가 지나면 토큰이 하나 다시 생긴다")
+    void tryAcquire_refillsOverTime() {
+        // given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1_000, 100, 4);
+        limiter.tryAcquire("ip-1", NOW);
+
+        // when & then
+        assertThat(limiter.tryAcquire("ip-1", NOW + 400)).isEqualTo(600);
+        assertThat(limiter.tryAcquire("ip-1", NOW + 1_000)).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 가득 찬 버킷만 지운다")
+    void evictIdle_removesOnlyFullBuckets() {
+        // given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 1_000, 100, 4);
+        limiter.tryAcquire("ip-1", NOW);
+        limiter.tryAcquire("ip-2", NOW + 5_000);
+
+        // when
+        limiter.evictIdle(NOW + 5_000);
+
+        // then
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키가 maxKeys 에 닿으면 새 키는 공유 버킷을 쓰고 메모리는 늘지 않는다")
+    void tryAcquire_full_usesOverflowStripe() {
+        // given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60_000, 1, 1);
+        limiter.tryAcquire("ip-1", NOW);
+
+        // when
+        long first = limiter.tryAcquire("ip-2", NOW);
+        long second = limiter.tryAcquire("ip-3", NOW);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isPositive();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 capacity 를 넘겨 허용하지 않는다")
+    void tryAcquire_concurrent_neverExceedsCapacity() throws InterruptedException {
+        // given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(50, 60_000, 100, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (limiter.tryAcquire("ip-1", NOW) == 0) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+}
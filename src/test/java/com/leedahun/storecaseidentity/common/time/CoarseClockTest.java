@@ -0,0 +1,71 @@
+package com.leedahun.storecaseidentity.common.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CoarseClockTest {
+
+    private CoarseClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = CoarseClock.start(ZoneId.of("Asia/Seoul"), Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.close();
+    }
+
+    @Test
+    @DisplayName("tick 사이에는 같은 Instant 를 반환하고 tick 이 지나면 갱신된다")
+    void instant_refreshedEveryTick() throws InterruptedException {
+        // given
+        Instant first = clock.instant();
+
+        // when
+        Thread.sleep(50);
+
+        // then
+        assertThat(clock.instant()).isAfter(first);
+        assertThat(Duration.between(clock.instant(), Instant.now()).abs()).isLessThan(Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("withZone 은 같은 시각을 공유하고 zone 만 바꾼다")
+    void withZone_sharesTicker() {
+        // when
+        Clock utc = clock.withZone(ZoneOffset.UTC);
+
+        // then
+        assertThat(utc.getZone()).isEqualTo(ZoneOffset.UTC);
+        assertThat(utc.millis()).isCloseTo(clock.millis(), offset(10L));
+        assertThat(clock.withZone(ZoneId.of("Asia/Seoul"))).isSameAs(clock);
+    }
+
+    @Test
+    @DisplayName("withZone 으로 얻은 Clock 을 닫아도 원래 Clock 은 계속 갱신된다")
+    void close_derivedClock_keepsTicking() throws InterruptedException {
+        // given
+        CoarseClock utc = (CoarseClock) clock.withZone(ZoneOffset.UTC);
+
+        // when
+        utc.close();
+        Instant afterClose = clock.instant();
+        Thread.sleep(50);
+
+        // then
+        assertThat(clock.instant()).isAfter(afterClose);
+        assertThat(utc.instant()).isAfter(afterClose);
+    }
+}
@@ -0,0 +1,53 @@
+package com.leedahun.storecaseidentity.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.leedahun.storecaseidentity.common.id.Tsid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class IdGeneratorConfigTest {
+
+    @AfterEach
+    void tearDown() {
+        Tsid.configureNode(0);
+    }
+
+    @Test
+    @DisplayName("운영 프로필에서 node 를 설정하지 않으면 기동에 실패한다")
+    void unconfiguredNode_inProd_throws() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+
+        // when & then
+        assertThatThrownBy(() -> new IdGeneratorConfig(IdGeneratorConfig.UNCONFIGURED, environment))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("local, test 프로필에서는 node 를 설정하지 않아도 0 으로 기동한다")
+    void unconfiguredNode_inTest_usesNodeZero() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("test");
+
+        // when & then
+        assertThatCode(() -> new IdGeneratorConfig(IdGeneratorConfig.UNCONFIGURED, environment))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("설정한 node 를 id 에 담는다")
+    void configuredNode_isEncoded() {
+        // when
+        new IdGeneratorConfig(7, new MockEnvironment());
+
+        // then
+        assertThat((Tsid.next() >>> Tsid.SEQUENCE_BITS) & Tsid.MAX_NODE).isEqualTo(7);
+    }
+}
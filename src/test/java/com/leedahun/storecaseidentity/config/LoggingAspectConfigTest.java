@@ -0,0 +1,118 @@
+package com.leedahun.storecaseidentity.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.leedahun.storecaseidentity.domain.auth.dto.LoginRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+class LoggingAspectConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoggingAspectConfig loggingAspect;
+    private SampleService sampleService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loggingAspect = new LoggingAspectConfig(meterRegistry, new InstrumentationProperties());
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(loggingAspect);
+        sampleService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("서비스 호출 시간을 layer, class, method 태그로 기록한다")
+    void service_recordsTimer() {
+        // when
+        sampleService.echo("hello");
+        sampleService.echo("world");
+
+        // then
+        assertThat(meterRegistry.get("app.invocation")
+                .tag("layer", "service")
+                .tag("class", "SampleService")
+                .tag("method", "echo")
+                .tag("exception", "none")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예외가 발생하면 예외 이름 태그로 기록하고 그대로 던진다")
+    void service_exception_recordsExceptionTag() {
+        // when & then
+        assertThatThrownBy(() -> sampleService.fail())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("app.invocation")
+                .tag("method", "fail")
+                .tag("exception", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 메서드에서 같은 예외가 반복되면 하나의 Timer 에 누적한다")
+    void service_repeatedException_reusesTimer() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> sampleService.fail())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        // then
+        assertThat(meterRegistry.get("app.invocation")
+                .tag("method", "fail")
+                .tag("exception", "IllegalStateException")
+                .timers()).hasSize(1);
+        assertThat(meterRegistry.get("app.invocation")
+                .tag("method", "fail")
+                .tag("exception", "IllegalStateException")
+                .timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("로그에 남기는 인자에서 비밀번호와 토큰 값을 가린다")
+    void redact_masksSensitiveFields() {
+        // given
+        String args = "[EmailVerificationConfirmRequestDto(email=user@test.com, code=123456), refreshToken=abc.def]";
+
+        // when
+        String redacted = loggingAspect.redact(args);
+
+        // then
+        assertThat(redacted)
+                .contains("email=user@test.com")
+                .contains("code=****")
+                .contains("refreshToken=****")
+                .doesNotContain("123456")
+                .doesNotContain("abc.def");
+    }
+
+    @Test
+    @DisplayName("요청 DTO 의 toString 에는 비밀번호가 포함되지 않는다")
+    void requestDto_toString_excludesPassword() {
+        // given
+        LoginRequestDto loginRequest = new LoginRequestDto("user@test.com", "plainPW!");
+
+        // when & then
+        assertThat(loginRequest.toString()).doesNotContain("plainPW!");
+    }
+
+    @Service
+    static class SampleService {
+
+        public String echo(String value) {
+            return value;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.leedahun.storecaseidentity.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leedahun.storecaseidentity.config.P6spyProperties.Mode;
+import com.leedahun.storecaseidentity.config.P6spySamplingLogger.Policy;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class P6spySamplingLoggerTest {
+
+    @Test
+    @DisplayName("pretty 모드는 모든 쿼리를 남긴다")
+    void pretty_logsEverything() {
+        // given
+        Policy policy = new Policy(Mode.PRETTY, 100, 200);
+
+        // when & then
+        assertThat(policy.shouldLog(0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("slow_only 모드는 임계값 이상 걸린 쿼리만 남긴다")
+    void slowOnly_logsOnlySlowQueries() {
+        // given
+        Policy policy = new Policy(Mode.SLOW_ONLY, 1, 200);
+
+        // when & then
+        assertThat(policy.shouldLog(199)).isFalse();
+        assertThat(policy.shouldLog(200)).isTrue();
+    }
+
+    @Test
+    @DisplayName("compact 모드는 샘플링하되 느린 쿼리는 항상 남긴다")
+    void compact_samplesFastQueries_andAlwaysLogsSlowQueries() {
+        // given
+        Policy policy = new Policy(Mode.COMPACT, 10, 200);
+
+        // when
+        long logged = IntStream.range(0, 10_000)
+                .filter(i -> policy.shouldLog(1))
+                .count();
+
+        // then
+        assertThat(logged).isBetween(700L, 1_300L);
+        assertThat(policy.shouldLog(500)).isTrue();
+    }
+}
@@ -8,9 +8,11 @@ import com.leedahun.storecaseidentity.domain.auth.config.SecurityConfig;
 import com.leedahun.storecaseidentity.domain.auth.dto.*;
 import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
 import com.leedahun.storecaseidentity.domain.auth.entity.Role;
+import com.leedahun.storecaseidentity.domain.auth.exception.RateLimitExceededException;
 import com.leedahun.storecaseidentity.domain.auth.exception.RefreshTokenNotExistsException;
 import com.leedahun.storecaseidentity.domain.auth.service.JoinService;
 import com.leedahun.storecaseidentity.domain.auth.service.LoginService;
+import com.leedahun.storecaseidentity.domain.auth.util.AuthRateLimiter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +30,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -53,6 +56,9 @@ class AuthControllerTest {
     @MockitoBean
     JwtProperties jwtProperties;
 
+    @MockitoBean
+    AuthRateLimiter authRateLimiter;
+
     private static final long REFRESH_EXPIRATION_TIME = 86_400_000L;
 
     @Test
@@ -96,7 +102,7 @@ class AuthControllerTest {
                 .refreshToken("refresh.raw")
                 .build();
 
-        given(loginService.login(any(LoginRequestDto.class))).willReturn(loginResult);
+        given(loginService.login(any(LoginRequestDto.class), anyString())).willReturn(loginResult);
         given(jwtProperties.getRefreshExpirationTime()).willReturn(REFRESH_EXPIRATION_TIME);
 
         // when & then
@@ -120,7 +126,25 @@ class AuthControllerTest {
         assertThat(setCookie).contains("SameSite=None");
         assertThat(setCookie).contains("Path=/api/auth/refresh");
 
-        then(loginService).should(times(1)).login(any(LoginRequestDto.class));
+        then(loginService).should(times(1)).login(any(LoginRequestDto.class), anyString());
+    }
+
+    @Test
+    @DisplayName("[POST /api/auth/login] 이메일 기준 한도를 넘으면 로그인을 시도하지 않고 429와 Retry-After를 반환한다")
+    void login_rateLimited_returnsTooManyRequests() throws Exception {
+        // given
+        willThrow(new RateLimitExceededException(30))
+                .given(authRateLimiter).checkEmail(AuthRateLimiter.LOGIN, "a@a.com");
+
+        // when & then
+        mockMvc.perform(post("/api/identity/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(new LoginRequestDto("a@a.com", "pw"))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"))
+                .andExpect(jsonPath("$.message").value(ErrorMessage.TOO_MANY_REQUESTS.getMessage()));
+
+        then(loginService).should(never()).login(any(LoginRequestDto.class), anyString());
     }
 
     @Test
@@ -174,6 +198,45 @@ class AuthControllerTest {
         then(loginService).shouldHaveNoInteractions();
     }
 
+    @Test
+    @DisplayName("[DELETE /api/auth/refresh] 로그아웃 시 refresh 토큰의 family 를 폐기하고 쿠키를 제거한다")
+    void logout_revokes_and_clears() throws Exception {
+        // given
+        String cookieValue = "refresh.raw";
+        willDoNothing().given(loginService).logout(cookieValue);
+
+        // when & then
+        MvcResult result = mockMvc.perform(delete("/api/identity/auth/refresh")
+                        .cookie(new MockCookie("refreshToken", cookieValue)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessage.LOGOUT_SUCCESS.getMessage()))
+                .andReturn();
+
+        String setCookie = result.getResponse().getHeader(HttpHeaders.SET_COOKIE);
+        assertThat(setCookie).contains("Max-Age=0");
+
+        then(loginService).should(times(1)).logout(cookieValue);
+    }
+
+    @Test
+    @DisplayName("[DELETE /api/auth/refresh] 폐기 중 예외가 나도 refresh 쿠키는 제거한다")
+    void logout_failure_stillClearsCookie() throws Exception {
+        // given
+        String cookieValue = "refresh.raw";
+        willThrow(new RefreshTokenNotExistsException()).given(loginService).logout(cookieValue);
+
+        // when
+        MvcResult result = mockMvc.perform(delete("/api/identity/auth/refresh")
+                        .cookie(new MockCookie("refreshToken", cookieValue)))
+                .andExpect(status().isUnauthorized())
+                .andReturn();
+
+        // then
+        String setCookie = result.getResponse().getHeader(HttpHeaders.SET_COOKIE);
+        assertThat(setCookie).contains("refreshToken=");
+        assertThat(setCookie).contains("Max-Age=0");
+    }
+
     @Test
     @DisplayName("[POST /api/identity/auth/join/email] 인증 메일 전송 성공 시 201 CREATED와 본문을 반환한다")
     void send_email_verification_success() throws Exception {
@@ -0,0 +1,67 @@
+package com.leedahun.storecaseidentity.domain.auth.controller;
+
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import com.leedahun.storecaseidentity.domain.auth.config.SecurityConfig;
+import com.leedahun.storecaseidentity.domain.auth.util.JwtSigningKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = JwksController.class,
+        excludeFilters = @ComponentScan.Filter(
+            type = FilterType.ASSIGNABLE_TYPE, classes = {SecurityConfig.class}
+))
+@AutoConfigureMockMvc(addFilters = false)
+class JwksControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    JwtSigningKeys jwtSigningKeys;
+
+    @MockitoBean
+    JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        given(jwtSigningKeys.jwks()).willReturn(Map.of("keys", List.of(Map.of("kty", "EC", "kid", "key-1"))));
+        given(jwtSigningKeys.jwksETag()).willReturn("abc123");
+        given(jwtProperties.getJwksMaxAgeSeconds()).willReturn(3600L);
+    }
+
+    @Test
+    @DisplayName("[GET /.well-known/jwks.json] 공개키 목록을 캐시 헤더와 함께 반환한다")
+    void jwks_returnsKeysWithCacheHeaders() throws Exception {
+        // when & then
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(jsonPath("$.keys[0].kid").value("key-1"));
+    }
+
+    @Test
+    @DisplayName("[GET /.well-known/jwks.json] ETag 가 같으면 본문 없이 304 를 반환한다")
+    void jwks_matchingETag_returnsNotModified() throws Exception {
+        // when & then
+        mockMvc.perform(get("/.well-known/jwks.json").header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
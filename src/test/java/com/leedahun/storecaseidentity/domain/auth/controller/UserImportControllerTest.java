@@ -0,0 +1,95 @@
+package com.leedahun.storecaseidentity.domain.auth.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.storecaseidentity.common.message.ErrorMessage;
+import com.leedahun.storecaseidentity.domain.auth.config.SecurityConfig;
+import com.leedahun.storecaseidentity.domain.auth.dto.JoinRequestDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportRequestDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto.ChunkResult;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto.Failure;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto.FailureReason;
+import com.leedahun.storecaseidentity.domain.auth.exception.UserImportLimitExceededException;
+import com.leedahun.storecaseidentity.domain.auth.service.UserImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = UserImportController.class,
+        excludeFilters = @ComponentScan.Filter(
+            type = FilterType.ASSIGNABLE_TYPE, classes = {SecurityConfig.class}
+))
+@AutoConfigureMockMvc(addFilters = false)
+class UserImportControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper om;
+
+    @MockitoBean
+    UserImportService userImportService;
+
+    private static final String URL = "/api/identity/admin/users/import";
+
+    private String body() throws Exception {
+        return om.writeValueAsString(new UserImportRequestDto(List.of(
+                JoinRequestDto.builder().email("a@test.com").password("pw-a").name("a").build(),
+                JoinRequestDto.builder().email("b@test.com").password("pw-b").name("b").build())));
+    }
+
+    @Test
+    @DisplayName("[POST /api/identity/admin/users/import] 일부 실패가 있어도 200 과 chunk 별 결과, 실패 목록을 반환한다")
+    void importUsers_returnsReport() throws Exception {
+        // given
+        UserImportResponseDto result = UserImportResponseDto.builder()
+                .requested(2)
+                .imported(1)
+                .skipped(1)
+                .failed(0)
+                .elapsedMillis(120)
+                .chunks(List.of(ChunkResult.builder().index(0).requested(2).imported(1).skipped(1).usersPerSecond(8).build()))
+                .failures(List.of(new Failure(1, "b@test.com", FailureReason.ALREADY_EXISTS)))
+                .build();
+        given(userImportService.importUsers(anyList())).willReturn(result);
+
+        // when & then
+        mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.imported").value(1))
+                .andExpect(jsonPath("$.data.chunks[0].usersPerSecond").value(8))
+                .andExpect(jsonPath("$.data.failures[0].index").value(1))
+                .andExpect(jsonPath("$.data.failures[0].reason").value("ALREADY_EXISTS"));
+    }
+
+    @Test
+    @DisplayName("[POST /api/identity/admin/users/import] 최대 회원 수를 넘으면 413 을 반환한다")
+    void importUsers_tooMany_returns413() throws Exception {
+        // given
+        given(userImportService.importUsers(anyList())).willThrow(new UserImportLimitExceededException());
+
+        // when & then
+        mockMvc.perform(post(URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body()))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message").value(ErrorMessage.USER_IMPORT_LIMIT_EXCEEDED.getMessage()));
+    }
+}
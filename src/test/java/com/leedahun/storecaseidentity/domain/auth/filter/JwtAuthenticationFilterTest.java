@@ -0,0 +1,96 @@
+package com.leedahun.storecaseidentity.domain.auth.filter;
+
+import com.leedahun.storecaseidentity.domain.auth.dto.LoginUser;
+import com.leedahun.storecaseidentity.domain.auth.exception.InvalidJwtTokenException;
+import com.leedahun.storecaseidentity.domain.auth.util.VerifiedTokenCache;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class JwtAuthenticationFilterTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = mock(VerifiedTokenCache.class);
+        filter = new JwtAuthenticationFilter(verifiedTokenCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 Bearer 토큰이면 LoginUser 를 principal 로 인증한다")
+    void doFilter_validToken_authenticates() throws ServletException, IOException {
+        // given
+        LoginUser loginUser = LoginUser.builder().id(1L).role("USER").build();
+        given(verifiedTokenCache.verify("access.raw")).willReturn(loginUser);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/secure");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer access.raw");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isSameAs(loginUser);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("검증에 실패하면 인증하지 않고 다음 필터로 넘긴다")
+    void doFilter_invalidToken_continuesUnauthenticated() throws ServletException, IOException {
+        // given
+        given(verifiedTokenCache.verify("broken")).willThrow(new InvalidJwtTokenException());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/secure");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer broken");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("Bearer 토큰이 없으면 검증하지 않는다")
+    void doFilter_withoutBearer_skipsVerification() throws ServletException, IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/secure");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic dXNlcjpwdw==");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(verifiedTokenCache, never()).verify(anyString());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
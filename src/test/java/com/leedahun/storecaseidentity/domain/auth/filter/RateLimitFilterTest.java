@@ -0,0 +1,106 @@
+package com.leedahun.storecaseidentity.domain.auth.filter;
+
+import com.leedahun.storecaseidentity.domain.auth.config.RateLimitProperties;
+import com.leedahun.storecaseidentity.domain.auth.util.AuthRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final String LOGIN_PATH = "/api/identity/auth/login";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Endpoint login = new RateLimitProperties.Endpoint();
+        login.setPath(LOGIN_PATH);
+        login.getIp().setCapacity(1);
+        login.getIp().setRefillMillis(60_000);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getEndpoints().put(AuthRateLimiter.LOGIN, login);
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(new AuthRateLimiter(properties, Clock.systemDefaultZone(), meterRegistry));
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String remoteAddr) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    @DisplayName("같은 IP 가 한도를 넘으면 429 와 Retry-After 를 응답한다")
+    void doFilter_exceeded_returnsTooManyRequests() throws ServletException, IOException {
+        // given
+        perform("POST", LOGIN_PATH, "10.0.0.1");
+
+        // when
+        MockHttpServletResponse response = perform("POST", LOGIN_PATH, "10.0.0.1");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(response.getContentAsString()).contains("429");
+        assertThat(meterRegistry.get("auth.rate_limit.rejected").tag("key", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 IP 와 제한 대상이 아닌 요청은 그대로 통과시킨다")
+    void doFilter_otherRequests_pass() throws ServletException, IOException {
+        // given
+        perform("POST", LOGIN_PATH, "10.0.0.1");
+
+        // when & then
+        assertThat(perform("POST", LOGIN_PATH, "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", LOGIN_PATH, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform("POST", "/api/identity/auth/join", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("인코딩한 경로도 디코딩해 같은 엔드포인트의 IP 한도에 포함한다")
+    void doFilter_encodedPath_counted() throws ServletException, IOException {
+        // given
+        perform("POST", LOGIN_PATH, "10.0.0.1");
+
+        // when
+        MockHttpServletResponse response = perform("POST", "/api/identity/auth/%6Cogin", "10.0.0.1");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("context path 를 뺀 경로로 제한 대상을 찾는다")
+    void doFilter_contextPath_counted() throws ServletException, IOException {
+        // given
+        perform("POST", LOGIN_PATH, "10.0.0.1");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/app" + LOGIN_PATH);
+        request.setContextPath("/app");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+}
@@ -0,0 +1,50 @@
+package com.leedahun.storecaseidentity.domain.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * H2 의 EXPLAIN 결과로 조회 쿼리가 엔티티에 선언한 인덱스를 타는지 확인한다.
+ */
+@DataJpaTest
+class RepositoryIndexTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.createNativeQuery("EXPLAIN " + sql).getSingleResult()).toUpperCase();
+    }
+
+    @Test
+    @DisplayName("최근 인증 조회는 (email, purpose, id DESC) 인덱스를 사용한다")
+    void findLatestVerification_usesCompositeIndex() {
+        // when
+        String plan = explain("""
+                SELECT * FROM email_verification
+                 WHERE email = 'user@test.com' AND purpose = 'SIGNUP'
+                 ORDER BY id DESC
+                 LIMIT 1
+                """);
+
+        // then
+        assertThat(plan).contains("IDX_EMAIL_VERIFICATION_EMAIL_PURPOSE_ID");
+        assertThat(plan).doesNotContain("TABLESCAN");
+    }
+
+    @Test
+    @DisplayName("로그인 조회는 user.email 유니크 인덱스를 사용한다")
+    void findUserByEmail_usesUniqueIndex() {
+        // when
+        String plan = explain("SELECT * FROM \"user\" WHERE email = 'user@test.com'");
+
+        // then
+        assertThat(plan).contains("UX_USER_EMAIL");
+        assertThat(plan).doesNotContain("TABLESCAN");
+    }
+}
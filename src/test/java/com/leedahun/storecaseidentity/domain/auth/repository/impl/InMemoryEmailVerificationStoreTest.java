@@ -0,0 +1,197 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailPurpose;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryEmailVerificationStoreTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int THREADS = 32;
+
+    private InMemoryEmailVerificationStore emailVerificationStore;
+
+    @BeforeEach
+    void setUp() {
+        emailVerificationStore = new InMemoryEmailVerificationStore(0, Clock.systemDefaultZone());
+    }
+
+    private EmailVerification pending(String code, LocalDateTime expiresAt) {
+        return EmailVerification.builder()
+                .email(EMAIL)
+                .purpose(EmailPurpose.SIGNUP)
+                .code(code)
+                .status(EmailVerifyStatus.PENDING)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("저장하면 id 를 부여하고 (email, purpose) 로 조회된다")
+    void save_assignsIdAndFindsLatest() {
+        // when
+        EmailVerification saved = emailVerificationStore.save(pending("111111", LocalDateTime.now().plusMinutes(5)));
+
+        // then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(emailVerificationStore.findLatest(EMAIL, EmailPurpose.SIGNUP))
+                .hasValueSatisfying(found -> assertThat(found.getCode()).isEqualTo("111111"));
+    }
+
+    @Test
+    @DisplayName("예전 인증을 나중에 저장해도 최신 인증을 덮어쓰지 않는다")
+    void save_olderVerification_doesNotOverwriteLatest() {
+        // given
+        EmailVerification old = emailVerificationStore.save(pending("111111", LocalDateTime.now().plusMinutes(5)));
+        emailVerificationStore.save(pending("222222", LocalDateTime.now().plusMinutes(5)));
+
+        // when
+        old.updateStatus(EmailVerifyStatus.EXPIRED);
+        emailVerificationStore.save(old);
+
+        // then
+        assertThat(emailVerificationStore.findLatest(EMAIL, EmailPurpose.SIGNUP))
+                .hasValueSatisfying(found -> {
+                    assertThat(found.getCode()).isEqualTo("222222");
+                    assertThat(found.getStatus()).isEqualTo(EmailVerifyStatus.PENDING);
+                });
+    }
+
+    @Test
+    @DisplayName("잠금 해제 재발송은 잠금 시간이 지났을 때만 새 코드로 PENDING 으로 되돌린다")
+    void unlockWithCode_onlyAfterLockExpires() {
+        // given
+        EmailVerification saved = emailVerificationStore.save(pending("111111", LocalDateTime.now().plusMinutes(5)));
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            emailVerificationStore.increaseAttemptCount(saved, MAX_ATTEMPTS, LocalDateTime.now().plusMinutes(15));
+        }
+
+        // when
+        boolean whileLocked = emailVerificationStore.unlockWithCode(saved, "222222", LocalDateTime.now());
+        boolean afterLock = emailVerificationStore.unlockWithCode(saved, "222222", LocalDateTime.now().plusMinutes(16));
+
+        // then
+        assertThat(whileLocked).isFalse();
+        assertThat(afterLock).isTrue();
+        EmailVerification result = emailVerificationStore.findLatest(EMAIL, EmailPurpose.SIGNUP).orElseThrow();
+        assertThat(result.getStatus()).isEqualTo(EmailVerifyStatus.PENDING);
+        assertThat(result.getCode()).isEqualTo("222222");
+        assertThat(result.getAttemptCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회한 값을 바꿔도 save 하기 전에는 저장소에 반영되지 않는다")
+    void findLatest_returnsCopy() {
+        // given
+        emailVerificationStore.save(pending("111111", LocalDateTime.now().plusMinutes(5)));
+
+        // when
+        emailVerificationStore.findLatest(EMAIL, EmailPurpose.SIGNUP).orElseThrow().increaseAttemptCount();
+
+        // then
+        assertThat(emailVerificationStore.findLatest(EMAIL, EmailPurpose.SIGNUP).orElseThrow().getAttemptCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 인증은 조회되지 않고 정리된다")
+    void evictExpired_removesExpiredEntries() {
+        // given
+        emailVerificationStore.save(pending("111111", LocalDateTime.now().minusMinutes(1)));
+
+        // when
+        emailVerificationStore.evictExpired();
+
+        // then
+        assertThat(emailVerificationStore.size()).isZero();
+        assertThat(emailVerificationStore.findLatest(EMAIL, EmailPurpose.SIGNUP)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잠금 해제 시각이 만료 시각보다 늦으면 잠금 해제 시각까지 보관한다")
+    void save_locked_retainedUntilLockedUntil() {
+        // given
+        EmailVerification locked = pending("111111", LocalDateTime.now().minusMinutes(1));
+        locked.updateStatus(EmailVerifyStatus.LOCKED);
+        locked.updateLockedUntil(LocalDateTime.now().plusMinutes(15));
+
+        // when
+        emailVerificationStore.save(locked);
+        emailVerificationStore.evictExpired();
+
+        // then
+        assertThat(emailVerificationStore.findLatest(EMAIL, EmailPurpose.SIGNUP))
+                .hasValueSatisfying(found -> assertThat(found.getStatus()).isEqualTo(EmailVerifyStatus.LOCKED));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 시도 횟수를 올려도 max_attempts 번만 반영된다")
+    void increaseAttemptCount_concurrent_neverExceedsMax() throws Exception {
+        // given
+        EmailVerification saved = emailVerificationStore.save(pending("111111", LocalDateTime.now().plusMinutes(5)));
+        LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(15);
+
+        // when
+        long applied = runConcurrently(() -> emailVerificationStore.increaseAttemptCount(saved, MAX_ATTEMPTS, lockedUntil));
+
+        // then
+        EmailVerification result = emailVerificationStore.findLatest(EMAIL, EmailPurpose.SIGNUP).orElseThrow();
+        assertThat(applied).isEqualTo(MAX_ATTEMPTS);
+        assertThat(result.getAttemptCount()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(result.getStatus()).isEqualTo(EmailVerifyStatus.LOCKED);
+        assertThat(result.getLockedUntil()).isEqualTo(lockedUntil);
+    }
+
+    @Test
+    @DisplayName("잠긴 뒤에는 올바른 코드로도 인증되지 않는다")
+    void verify_afterLocked_notApplied() {
+        // given
+        EmailVerification saved = emailVerificationStore.save(pending("111111", LocalDateTime.now().plusMinutes(5)));
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            emailVerificationStore.increaseAttemptCount(saved, MAX_ATTEMPTS, LocalDateTime.now().plusMinutes(15));
+        }
+
+        // when & then
+        assertThat(emailVerificationStore.verify(saved, "111111", MAX_ATTEMPTS, LocalDateTime.now())).isFalse();
+    }
+
+    private long runConcurrently(Callable<Boolean> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            long applied = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get(5, TimeUnit.SECONDS)) {
+                    applied++;
+                }
+            }
+            return applied;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leedahun.storecaseidentity.domain.auth.entity.RefreshTokenFamily;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private static final String FAMILY_ID = "fid-1";
+    private static final int THREADS = 16;
+
+    private InMemoryRefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new InMemoryRefreshTokenStore(3, Clock.systemDefaultZone());
+    }
+
+    private RefreshTokenFamily family(String familyId, String tokenId, LocalDateTime expiresAt) {
+        return RefreshTokenFamily.builder()
+                .familyId(familyId)
+                .userId(1L)
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("현재 tokenId 로 회전하면 새 tokenId 로 바뀌고 rotation 이 증가한다")
+    void rotate_currentToken_succeeds() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenStore.save(family(FAMILY_ID, "jti-1", now.plusDays(1)));
+
+        // when
+        boolean rotated = refreshTokenStore.rotate(FAMILY_ID, "jti-1", "jti-2", now.plusDays(2), now);
+
+        // then
+        assertThat(rotated).isTrue();
+        RefreshTokenFamily family = refreshTokenStore.find(FAMILY_ID).orElseThrow();
+        assertThat(family.getTokenId()).isEqualTo("jti-2");
+        assertThat(family.getRotation()).isEqualTo(1);
+        assertThat(family.getExpiresAt()).isEqualTo(now.plusDays(2));
+    }
+
+    @Test
+    @DisplayName("이미 교체된 tokenId 나 폐기된 family 로는 회전하지 않는다")
+    void rotate_staleOrRevoked_fails() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenStore.save(family(FAMILY_ID, "jti-1", now.plusDays(1)));
+        refreshTokenStore.rotate(FAMILY_ID, "jti-1", "jti-2", now.plusDays(1), now);
+
+        // when & then
+        assertThat(refreshTokenStore.rotate(FAMILY_ID, "jti-1", "jti-3", now.plusDays(1), now)).isFalse();
+
+        refreshTokenStore.revoke(FAMILY_ID);
+        assertThat(refreshTokenStore.rotate(FAMILY_ID, "jti-2", "jti-3", now.plusDays(1), now)).isFalse();
+        assertThat(refreshTokenStore.find(FAMILY_ID).orElseThrow().isRevoked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 동시에 회전하면 한 요청만 성공한다")
+    void rotate_concurrently_onlyOneSucceeds() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenStore.save(family(FAMILY_ID, "jti-1", now.plusDays(1)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < THREADS; i++) {
+            String nextTokenId = "jti-next-" + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return refreshTokenStore.rotate(FAMILY_ID, "jti-1", nextTokenId, now.plusDays(1), now);
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(5, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(refreshTokenStore.find(FAMILY_ID).orElseThrow().getRotation()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수에 도달하면 만료된 family 부터, 그다음 가장 먼저 만료될 family 를 내보낸다")
+    void save_full_evictsExpiredThenEarliestExpiring() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenStore.save(family("expired", "jti", now.minusMinutes(1)));
+        refreshTokenStore.save(family("soon", "jti", now.plusMinutes(1)));
+        refreshTokenStore.save(family("later", "jti", now.plusDays(1)));
+
+        // when
+        refreshTokenStore.save(family("new-1", "jti", now.plusDays(1)));
+        refreshTokenStore.save(family("new-2", "jti", now.plusDays(1)));
+
+        // then
+        assertThat(refreshTokenStore.size()).isEqualTo(3);
+        assertThat(refreshTokenStore.find("expired")).isEmpty();
+        assertThat(refreshTokenStore.find("soon")).isEmpty();
+        assertThat(refreshTokenStore.find("later")).isPresent();
+        assertThat(refreshTokenStore.find("new-2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("회전으로 만료 시각이 늦춰진 family 는 새 만료 시각 순서로 내보낸다")
+    void save_full_usesExpiryAfterRotation() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenStore.save(family("rotated", "jti-1", now.plusMinutes(1)));
+        refreshTokenStore.save(family("soon", "jti", now.plusMinutes(2)));
+        refreshTokenStore.save(family("later", "jti", now.plusDays(1)));
+        refreshTokenStore.rotate("rotated", "jti-1", "jti-2", now.plusDays(2), now);
+
+        // when
+        refreshTokenStore.save(family("new", "jti", now.plusDays(1)));
+
+        // then
+        assertThat(refreshTokenStore.size()).isEqualTo(3);
+        assertThat(refreshTokenStore.find("soon")).isEmpty();
+        assertThat(refreshTokenStore.find("rotated")).isPresent();
+        assertThat(refreshTokenStore.find("later")).isPresent();
+    }
+}
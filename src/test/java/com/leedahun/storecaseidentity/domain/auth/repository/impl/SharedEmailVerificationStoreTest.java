@@ -0,0 +1,165 @@
+package com.leedahun.storecaseidentity.domain.auth.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.leedahun.storecaseidentity.common.store.LocalSharedKeyValueStore;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailPurpose;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SharedEmailVerificationStoreTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    private SharedEmailVerificationStore nodeA;
+    private SharedEmailVerificationStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        LocalSharedKeyValueStore sharedKeyValueStore = new LocalSharedKeyValueStore(Clock.systemDefaultZone());
+        ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        nodeA = new SharedEmailVerificationStore(sharedKeyValueStore, objectMapper, 60, Clock.systemDefaultZone());
+        nodeB = new SharedEmailVerificationStore(sharedKeyValueStore, objectMapper, 60, Clock.systemDefaultZone());
+    }
+
+    private EmailVerification pending(String code) {
+        return EmailVerification.builder()
+                .email(EMAIL)
+                .purpose(EmailPurpose.SIGNUP)
+                .code(code)
+                .status(EmailVerifyStatus.PENDING)
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build();
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 저장한 인증을 다른 인스턴스에서 같은 값으로 조회한다")
+    void save_visibleFromOtherNode() {
+        // given
+        EmailVerification saved = nodeA.save(pending("111111"));
+
+        // when
+        EmailVerification found = nodeB.findLatest(EMAIL, EmailPurpose.SIGNUP).orElseThrow();
+
+        // then
+        assertThat(found.getId()).isEqualTo(saved.getId());
+        assertThat(found.getCode()).isEqualTo("111111");
+        assertThat(found.getStatus()).isEqualTo(EmailVerifyStatus.PENDING);
+        assertThat(found.getExpiresAt()).isEqualTo(saved.getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 더 최신 인증을 저장했다면 예전 인증으로 덮어쓰지 않는다")
+    void save_olderVerification_doesNotOverwriteOtherNode() {
+        // given
+        EmailVerification old = nodeA.save(pending("111111"));
+        nodeB.save(pending("222222"));
+
+        // when
+        old.updateStatus(EmailVerifyStatus.EXPIRED);
+        nodeA.save(old);
+
+        // then
+        assertThat(nodeA.findLatest(EMAIL, EmailPurpose.SIGNUP))
+                .hasValueSatisfying(found -> assertThat(found.getCode()).isEqualTo("222222"));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 인증한 뒤에는 조회해 둔 값으로 재발송해도 인증 상태를 덮어쓰지 않는다")
+    void reissueCode_afterOtherNodeVerified_notApplied() {
+        // given
+        EmailVerification read = nodeA.save(pending("111111"));
+        nodeB.verify(read, "111111", 5, LocalDateTime.now());
+
+        // when
+        boolean reissued = nodeA.reissueCode(read, "222222", LocalDateTime.now().plusMinutes(5));
+        nodeA.save(read);
+
+        // then
+        assertThat(reissued).isFalse();
+        assertThat(nodeB.findLatest(EMAIL, EmailPurpose.SIGNUP))
+                .hasValueSatisfying(found -> {
+                    assertThat(found.getStatus()).isEqualTo(EmailVerifyStatus.VERIFIED);
+                    assertThat(found.getCode()).isEqualTo("111111");
+                });
+    }
+
+    @Test
+    @DisplayName("조회한 뒤 바뀌지 않았다면 새 코드로 재발송하고 시도 횟수는 유지한다")
+    void reissueCode_unchanged_applied() {
+        // given
+        EmailVerification read = nodeA.save(pending("111111"));
+        nodeB.increaseAttemptCount(read, 5, LocalDateTime.now().plusMinutes(15));
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(10);
+
+        // when
+        boolean reissued = nodeA.reissueCode(read, "222222", expiresAt);
+
+        // then
+        assertThat(reissued).isTrue();
+        assertThat(nodeB.findLatest(EMAIL, EmailPurpose.SIGNUP))
+                .hasValueSatisfying(found -> {
+                    assertThat(found.getCode()).isEqualTo("222222");
+                    assertThat(found.getExpiresAt()).isEqualTo(expiresAt);
+                    assertThat(found.getAttemptCount()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("purpose 가 다르면 별도로 보관한다")
+    void findLatest_differentPurpose_empty() {
+        // given
+        nodeA.save(pending("111111"));
+
+        // when & then
+        assertThat(nodeB.findLatest(EMAIL, EmailPurpose.RESET)).isEmpty();
+    }
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 시도 횟수를 올려도 max_attempts 번만 반영된다")
+    void increaseAttemptCount_concurrentNodes_neverExceedsMax() throws Exception {
+        // given
+        EmailVerification saved = nodeA.save(pending("111111"));
+        LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(15);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 16; i++) {
+            SharedEmailVerificationStore node = (i % 2 == 0) ? nodeA : nodeB;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return node.increaseAttemptCount(saved, 5, lockedUntil);
+            }));
+        }
+        start.countDown();
+        long applied = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get(5, TimeUnit.SECONDS)) {
+                applied++;
+            }
+        }
+        executor.shutdownNow();
+
+        // then
+        EmailVerification result = nodeB.findLatest(EMAIL, EmailPurpose.SIGNUP).orElseThrow();
+        assertThat(applied).isEqualTo(5);
+        assertThat(result.getAttemptCount()).isEqualTo(5);
+        assertThat(result.getStatus()).isEqualTo(EmailVerifyStatus.LOCKED);
+    }
+}
@@ -0,0 +1,96 @@
+package com.leedahun.storecaseidentity.domain.auth.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leedahun.storecaseidentity.config.JpaAuditConfig;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailPurpose;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import(JpaAuditConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailVerificationPurgeJobTest {
+
+    @Autowired
+    private EmailVerificationRepository emailVerificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmailVerificationPurgeJob emailVerificationPurgeJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        emailVerificationPurgeJob = new EmailVerificationPurgeJob(
+                emailVerificationRepository, transactionManager, meterRegistry, Clock.systemDefaultZone(), 24, 3, 100, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailVerificationRepository.deleteAll();
+    }
+
+    private EmailVerification save(EmailVerifyStatus status, LocalDateTime expiresAt, LocalDateTime lockedUntil) {
+        return emailVerificationRepository.save(EmailVerification.builder()
+                .email("user@test.com")
+                .purpose(EmailPurpose.SIGNUP)
+                .code("123456")
+                .status(status)
+                .expiresAt(expiresAt)
+                .lockedUntil(lockedUntil)
+                .build());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 행만 batch 단위로 모두 삭제하고 삭제 건수를 집계한다")
+    void purge_deletesOnlyRowsPastRetention() {
+        // given
+        LocalDateTime old = LocalDateTime.now().minusDays(2);
+        IntStream.range(0, 7).forEach(i -> save(EmailVerifyStatus.EXPIRED, old, null));
+        save(EmailVerifyStatus.VERIFIED, old, null);
+        EmailVerification recent = save(EmailVerifyStatus.PENDING, LocalDateTime.now().plusMinutes(5), null);
+        EmailVerification stillLocked = save(EmailVerifyStatus.LOCKED, old, LocalDateTime.now().minusHours(1));
+
+        // when
+        emailVerificationPurgeJob.purge();
+
+        // then
+        assertThat(emailVerificationRepository.findAll())
+                .extracting(EmailVerification::getId)
+                .containsExactlyInAnyOrder(recent.getId(), stillLocked.getId());
+        assertThat(meterRegistry.get("auth.email_verification.purged").counter().count()).isEqualTo(8);
+        assertThat(meterRegistry.get("auth.email_verification.purge").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제할 행이 없으면 아무것도 지우지 않는다")
+    void purge_nothingToDelete() {
+        // given
+        save(EmailVerifyStatus.PENDING, LocalDateTime.now().plusMinutes(5), null);
+
+        // when
+        int purged = emailVerificationPurgeJob.purgeExpired();
+
+        // then
+        assertThat(purged).isZero();
+        assertThat(emailVerificationRepository.count()).isEqualTo(1);
+    }
+}
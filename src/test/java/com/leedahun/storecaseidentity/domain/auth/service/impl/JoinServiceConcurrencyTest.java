@@ -0,0 +1,183 @@
+package com.leedahun.storecaseidentity.domain.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leedahun.storecaseidentity.common.mail.EmailDispatcher;
+import com.leedahun.storecaseidentity.config.ClockConfig;
+import com.leedahun.storecaseidentity.config.JpaAuditConfig;
+import com.leedahun.storecaseidentity.domain.auth.dto.EmailVerificationConfirmRequestDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.EmailVerificationConfirmResponseDto;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailPurpose;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerification;
+import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationAttemptLimitExceededException;
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationFailedException;
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationLockedException;
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationRepository;
+import com.leedahun.storecaseidentity.domain.auth.repository.impl.JpaEmailVerificationStore;
+import com.leedahun.storecaseidentity.domain.auth.service.JoinService;
+import com.leedahun.storecaseidentity.domain.auth.util.VerificationEmailRenderer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 스레드가 같은 인증에 동시에 코드를 제출해도 시도 횟수가 max_attempts 를 넘지 않는지 확인한다.
+ * 각 요청이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행한다.
+ */
+@DataJpaTest
+@Import({JoinServiceImpl.class, JpaEmailVerificationStore.class, JpaAuditConfig.class, ClockConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JoinServiceConcurrencyTest {
+
+    private static final int THREADS = 20;
+    private static final String EMAIL = "user@test.com";
+    private static final String CODE = "123456";
+    private static final String WRONG_CODE = "000000";
+
+    @Autowired
+    private JoinService joinService;
+
+    @Autowired
+    private EmailVerificationRepository emailVerificationRepository;
+
+    @MockitoBean
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @MockitoBean
+    private VerificationEmailRenderer verificationEmailRenderer;
+
+    @MockitoBean
+    private EmailDispatcher emailDispatcher;
+
+    @Value("${spring.mail.max_attempts}")
+    private int maxAttempts;
+
+    @AfterEach
+    void tearDown() {
+        emailVerificationRepository.deleteAll();
+    }
+
+    private EmailVerification savePending() {
+        return emailVerificationRepository.save(EmailVerification.builder()
+                .email(EMAIL)
+                .purpose(EmailPurpose.SIGNUP)
+                .code(CODE)
+                .status(EmailVerifyStatus.PENDING)
+                .attemptCount(0)
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build());
+    }
+
+    private List<Object> runConcurrently(IntFunction<Callable<Object>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Callable<Object> task = tasks.apply(i);
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        return task.call();
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            ready.await(5, TimeUnit.SECONDS);
+            start.countDown();
+
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<Object> verify(String code) {
+        return () -> joinService.verifyEmailCode(new EmailVerificationConfirmRequestDto(EMAIL, code));
+    }
+
+    @RepeatedTest(3)
+    @DisplayName("동시에 틀린 코드를 제출해도 시도 횟수는 max_attempts 에서 멈추고 잠금 상태가 된다")
+    void verify_concurrentWrongCodes_attemptsNeverExceedMax() throws Exception {
+        // given
+        EmailVerification saved = savePending();
+
+        // when
+        List<Object> outcomes = runConcurrently(i -> verify(WRONG_CODE));
+
+        // then
+        EmailVerification result = emailVerificationRepository.findById(saved.getId()).orElseThrow();
+        assertThat(result.getAttemptCount()).isEqualTo(maxAttempts);
+        assertThat(result.getStatus()).isEqualTo(EmailVerifyStatus.LOCKED);
+        assertThat(result.getLockedUntil()).isAfter(LocalDateTime.now());
+
+        // 잠금 전까지 반영된 요청은 각각 서로 다른 시도 횟수를 응답받는다
+        List<Integer> countedAttempts = outcomes.stream()
+                .filter(EmailVerificationConfirmResponseDto.class::isInstance)
+                .map(outcome -> ((EmailVerificationConfirmResponseDto) outcome).getAttempts())
+                .toList();
+        assertThat(countedAttempts).containsExactlyInAnyOrderElementsOf(IntStream.range(1, maxAttempts).boxed().toList());
+        assertThat(outcomes)
+                .filteredOn(RuntimeException.class::isInstance)
+                .allMatch(outcome -> outcome instanceof EmailVerificationAttemptLimitExceededException
+                        || outcome instanceof EmailVerificationLockedException
+                        || outcome instanceof EmailVerificationFailedException);
+    }
+
+    @RepeatedTest(3)
+    @DisplayName("올바른 코드와 틀린 코드가 동시에 들어와도 잠긴 뒤에는 인증되지 않는다")
+    void verify_concurrentMixedCodes_neverVerifiedAfterLimit() throws Exception {
+        // given
+        EmailVerification saved = savePending();
+
+        // when
+        List<Object> outcomes = runConcurrently(i -> verify(i == THREADS / 2 ? CODE : WRONG_CODE));
+
+        // then
+        EmailVerification result = emailVerificationRepository.findById(saved.getId()).orElseThrow();
+        assertThat(result.getAttemptCount()).isLessThanOrEqualTo(maxAttempts);
+        assertThat(result.getStatus()).isIn(EmailVerifyStatus.VERIFIED, EmailVerifyStatus.LOCKED);
+        if (result.getStatus() == EmailVerifyStatus.VERIFIED) {
+            assertThat(result.getAttemptCount()).isLessThan(maxAttempts);
+            assertThat(outcomes.get(THREADS / 2))
+                    .isInstanceOfSatisfying(EmailVerificationConfirmResponseDto.class,
+                            response -> assertThat(response.getStatus()).isEqualTo(EmailVerifyStatus.VERIFIED));
+        } else {
+            assertThat(result.getAttemptCount()).isEqualTo(maxAttempts);
+        }
+
+        // 틀린 코드를 낸 요청은 경쟁에서 졌더라도 인증 성공으로 응답받지 않는다
+        for (int i = 0; i < THREADS; i++) {
+            if (i != THREADS / 2 && outcomes.get(i) instanceof EmailVerificationConfirmResponseDto response) {
+                assertThat(response.getStatus()).isNotEqualTo(EmailVerifyStatus.VERIFIED);
+            }
+        }
+    }
+}
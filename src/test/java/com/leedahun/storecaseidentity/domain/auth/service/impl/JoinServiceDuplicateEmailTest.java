@@ -0,0 +1,90 @@
+package com.leedahun.storecaseidentity.domain.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+
+import com.leedahun.storecaseidentity.common.mail.EmailDispatcher;
+import com.leedahun.storecaseidentity.config.JpaAuditConfig;
+import com.leedahun.storecaseidentity.domain.auth.dto.JoinRequestDto;
+import com.leedahun.storecaseidentity.domain.auth.entity.User;
+import com.leedahun.storecaseidentity.domain.auth.exception.UserAlreadyExistsException;
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationStore;
+import com.leedahun.storecaseidentity.domain.auth.repository.UserRepository;
+import com.leedahun.storecaseidentity.domain.auth.util.VerificationEmailRenderer;
+import java.time.Clock;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 중복 확인 조회를 통과한 가입이 실제 H2 의 ux_user_email 에 걸렸을 때 커밋 전에 UserAlreadyExistsException 으로 바뀌는지 확인한다.
+ * 동시 가입을 재현하도록 findByEmail 만 빈 결과로 바꾸고 나머지는 실제 저장소에 위임한다.
+ */
+@DataJpaTest
+@Import(JpaAuditConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JoinServiceDuplicateEmailTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private JoinServiceImpl joinService;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository racingRepository = mock(UserRepository.class, delegatesTo(userRepository));
+        willReturn(Optional.empty()).given(racingRepository).findByEmail(EMAIL);
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        joinService = new JoinServiceImpl(
+                mock(EmailVerificationStore.class),
+                racingRepository,
+                new BCryptPasswordEncoder(4),
+                mock(VerificationEmailRenderer.class),
+                mock(EmailDispatcher.class),
+                Clock.systemDefaultZone());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    private void join() {
+        transactionTemplate.executeWithoutResult(status -> joinService.join(JoinRequestDto.builder()
+                .email(EMAIL)
+                .password("plainPW!")
+                .name("tester")
+                .build()));
+    }
+
+    @Test
+    @DisplayName("먼저 가입한 회원이 커밋된 뒤 같은 이메일로 insert 하면 UserAlreadyExistsException 이 발생하고 롤백된다")
+    void join_uniqueIndexViolation_throwsUserAlreadyExists() {
+        // given
+        join();
+
+        // when & then
+        assertThatThrownBy(this::join).isInstanceOf(UserAlreadyExistsException.class);
+        assertThat(userRepository.findAll()).extracting(User::getEmail).containsExactly(EMAIL);
+    }
+}
@@ -3,6 +3,7 @@ package com.leedahun.storecaseidentity.domain.auth.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
@@ -14,7 +15,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.leedahun.storecaseidentity.common.error.exception.EntityNotFoundException;
-import com.leedahun.storecaseidentity.common.mail.EmailClient;
+import com.leedahun.storecaseidentity.common.mail.EmailDispatcher;
 import com.leedahun.storecaseidentity.domain.auth.dto.EmailVerificationConfirmRequestDto;
 import com.leedahun.storecaseidentity.domain.auth.dto.EmailVerificationConfirmResponseDto;
 import com.leedahun.storecaseidentity.domain.auth.dto.JoinRequestDto;
@@ -24,11 +25,15 @@ import com.leedahun.storecaseidentity.domain.auth.entity.EmailVerifyStatus;
 import com.leedahun.storecaseidentity.domain.auth.entity.User;
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationAlreadyDoneException;
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationAttemptLimitExceededException;
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationConflictException;
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationExpiredException;
+import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationFailedException;
 import com.leedahun.storecaseidentity.domain.auth.exception.EmailVerificationLockedException;
 import com.leedahun.storecaseidentity.domain.auth.exception.UserAlreadyExistsException;
-import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationRepository;
+import com.leedahun.storecaseidentity.domain.auth.repository.EmailVerificationStore;
 import com.leedahun.storecaseidentity.domain.auth.repository.UserRepository;
+import com.leedahun.storecaseidentity.domain.auth.util.VerificationEmailRenderer;
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,10 +45,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 @ExtendWith(MockitoExtension.class)
 class JoinServiceTest {
@@ -52,16 +56,16 @@ class JoinServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private EmailVerificationRepository emailVerificationRepository;
+    private EmailVerificationStore emailVerificationStore;
 
     @Mock
     BCryptPasswordEncoder passwordEncoder;
 
     @Mock
-    private SpringTemplateEngine templateEngine;
+    private VerificationEmailRenderer verificationEmailRenderer;
 
     @Mock
-    private EmailClient emailClient;
+    private EmailDispatcher emailDispatcher;
 
     @InjectMocks
     private JoinServiceImpl joinService;
@@ -80,6 +84,7 @@ class JoinServiceTest {
         ReflectionTestUtils.setField(joinService, "maxAttempts", 5);
         ReflectionTestUtils.setField(joinService, "expireMinutes", 10);
         ReflectionTestUtils.setField(joinService, "lockMinutes", 3);
+        ReflectionTestUtils.setField(joinService, "clock", Clock.systemDefaultZone());
     }
 
     @Nested
@@ -104,7 +109,7 @@ class JoinServiceTest {
             joinService.join(joinRequest);
 
             // then
-            verify(userRepository, times(1)).save(userCaptor.capture());
+            verify(userRepository, times(1)).saveAndFlush(userCaptor.capture());
             User saved = userCaptor.getValue();
             assertThat(saved.getEmail()).isEqualTo(EMAIL);
             assertThat(saved.getName()).isEqualTo(NAME);
@@ -128,7 +133,26 @@ class JoinServiceTest {
             assertThatThrownBy(() -> joinService.join(joinRequest))
                     .isInstanceOf(UserAlreadyExistsException.class);
 
-            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).saveAndFlush(any(User.class));
+        }
+
+        @Test
+        @DisplayName("동시에 같은 이메일로 가입해 유니크 인덱스에 걸리면 UserAlreadyExistsException을 발생시킨다")
+        void join_concurrentDuplicateEmail_throws() {
+            // given
+            JoinRequestDto joinRequest = JoinRequestDto.builder()
+                    .email(EMAIL)
+                    .name(NAME)
+                    .password(RAW_PW)
+                    .phone(PHONE)
+                    .build();
+            given(userRepository.findByEmail(EMAIL)).willReturn(Optional.empty());
+            given(passwordEncoder.encode(RAW_PW)).willReturn(ENC_PW);
+            given(userRepository.saveAndFlush(any(User.class))).willThrow(new DataIntegrityViolationException("ux_user_email"));
+
+            // when & then
+            assertThatThrownBy(() -> joinService.join(joinRequest))
+                    .isInstanceOf(UserAlreadyExistsException.class);
         }
 
     }
@@ -141,17 +165,17 @@ class JoinServiceTest {
         @DisplayName("회원가입 이메일 요청 시 이전 인증 기록 없을 경우 새 인증을 저장하고 메일을 전송한다")
         void send_firstTime_success() {
             // given
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
                     .willReturn(Optional.empty());
-            given(templateEngine.process(anyString(), any(Context.class))).willReturn(HTML);
+            given(verificationEmailRenderer.render(eq(EMAIL), anyString(), anyInt())).willReturn(HTML);
 
             // when
             joinService.sendJoinEmail(EMAIL);
 
             // then
-            then(emailVerificationRepository).should().save(any(EmailVerification.class));
-            then(emailClient).should().sendOneEmail(eq(EMAIL), contains("StoreCase"), eq(HTML));
-            verify(emailClient, times(1)).sendOneEmail(eq(EMAIL), contains("StoreCase"), eq(HTML));
+            then(emailVerificationStore).should().save(any(EmailVerification.class));
+            then(emailDispatcher).should().dispatch(eq(EMAIL), contains("StoreCase"), eq(HTML));
+            verify(emailDispatcher, times(1)).dispatch(eq(EMAIL), contains("StoreCase"), eq(HTML));
         }
 
         @Test
@@ -163,14 +187,14 @@ class JoinServiceTest {
                     .purpose(EmailPurpose.SIGNUP)
                     .status(EmailVerifyStatus.VERIFIED)  // 이미 인증완료 상태인 경우
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
                     .willReturn(Optional.of(emailVerification));
 
             // when & then
             assertThatThrownBy(() -> joinService.sendJoinEmail(EMAIL))
                     .isInstanceOf(EmailVerificationAlreadyDoneException.class);
 
-            then(emailClient).shouldHaveNoInteractions();
+            then(emailDispatcher).shouldHaveNoInteractions();
         }
 
         @Test
@@ -183,14 +207,14 @@ class JoinServiceTest {
                     .status(EmailVerifyStatus.LOCKED)  // 이미 잠금상태인 경우
                     .lockedUntil(LocalDateTime.now().plusMinutes(5))  // 잠금기간이 만료되지 않은 경우
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
                     .willReturn(Optional.of(emailVerification));
 
             // when & then
             assertThatThrownBy(() -> joinService.sendJoinEmail(EMAIL))
                     .isInstanceOf(EmailVerificationLockedException.class);
 
-            then(emailClient).shouldHaveNoInteractions();
+            then(emailDispatcher).shouldHaveNoInteractions();
         }
 
         @Test
@@ -204,16 +228,19 @@ class JoinServiceTest {
                     .lockedUntil(LocalDateTime.now().minusMinutes(1))  // 잠금기간이 만료된 경우
                     .expiresAt(LocalDateTime.now().minusMinutes(1))
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
                     .willReturn(Optional.of(emailVerification));
-            given(templateEngine.process(eq("email/verification"), any(Context.class))).willReturn(HTML);
+            given(emailVerificationStore.unlockWithCode(eq(emailVerification), anyString(), any(LocalDateTime.class)))
+                    .willReturn(true);
+            given(verificationEmailRenderer.render(eq(EMAIL), anyString(), anyInt())).willReturn(HTML);
 
             // when
             joinService.sendJoinEmail(EMAIL);
 
             // then
-            verify(emailVerificationRepository, times(1)).save(any(EmailVerification.class));
-            then(emailClient).should().sendOneEmail(eq(EMAIL), contains("StoreCase"), eq(HTML));
+            verify(emailVerificationStore, times(1)).unlockWithCode(eq(emailVerification), anyString(), any(LocalDateTime.class));
+            verify(emailVerificationStore, never()).save(any(EmailVerification.class));
+            then(emailDispatcher).should().dispatch(eq(EMAIL), contains("StoreCase"), eq(HTML));
         }
 
         @Test
@@ -226,18 +253,66 @@ class JoinServiceTest {
                     .status(EmailVerifyStatus.PENDING)  // 요청 상태인 경우
                     .expiresAt(LocalDateTime.now().plusMinutes(10))  // 아직 유효한 경우
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
                     .willReturn(Optional.of(emailVerification));
-            given(templateEngine.process(eq("email/verification"), any(Context.class))).willReturn(HTML);
+            given(emailVerificationStore.reissueCode(eq(emailVerification), anyString(), any(LocalDateTime.class)))
+                    .willReturn(true);
+            given(verificationEmailRenderer.render(eq(EMAIL), anyString(), anyInt())).willReturn(HTML);
 
             // when
             joinService.sendJoinEmail(EMAIL);
 
             // then
-            then(emailVerificationRepository).should().save(any(EmailVerification.class));
-            then(emailClient).should().sendOneEmail(eq(EMAIL), contains("StoreCase"), eq(HTML));
-            verify(emailVerificationRepository, times(1)).save(any(EmailVerification.class));
-            verify(emailClient, times(1)).sendOneEmail(eq(EMAIL), contains("StoreCase"), eq(HTML));
+            verify(emailVerificationStore, times(1)).reissueCode(eq(emailVerification), anyString(), any(LocalDateTime.class));
+            verify(emailVerificationStore, never()).save(any(EmailVerification.class));
+            verify(emailDispatcher, times(1)).dispatch(eq(EMAIL), contains("StoreCase"), eq(HTML));
+        }
+
+        @Test
+        @DisplayName("재발송 갱신 전에 다른 요청이 먼저 인증했다면 덮어쓰지 않고 이미 인증됨으로 응답한다")
+        void send_pendingButVerifiedConcurrently_doesNotOverwrite() {
+            // given
+            EmailVerification emailVerification = EmailVerification.builder()
+                    .email(EMAIL)
+                    .purpose(EmailPurpose.SIGNUP)
+                    .code(EMAIL_CODE)
+                    .status(EmailVerifyStatus.PENDING)
+                    .expiresAt(LocalDateTime.now().plusMinutes(10))
+                    .build();
+            EmailVerification verified = emailVerification.toBuilder().status(EmailVerifyStatus.VERIFIED).build();
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
+                    .willReturn(Optional.of(emailVerification), Optional.of(verified));
+            given(emailVerificationStore.reissueCode(eq(emailVerification), anyString(), any(LocalDateTime.class)))
+                    .willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> joinService.sendJoinEmail(EMAIL))
+                    .isInstanceOf(EmailVerificationAlreadyDoneException.class);
+            verify(emailVerificationStore, never()).save(any(EmailVerification.class));
+            then(emailDispatcher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("재발송 갱신이 계속 다른 요청에 밀리면 EmailVerificationConflictException 발생")
+        void send_reissueKeepsLosing_throwsConflict() {
+            // given
+            EmailVerification emailVerification = EmailVerification.builder()
+                    .email(EMAIL)
+                    .purpose(EmailPurpose.SIGNUP)
+                    .code(EMAIL_CODE)
+                    .status(EmailVerifyStatus.PENDING)
+                    .expiresAt(LocalDateTime.now().plusMinutes(10))
+                    .build();
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
+                    .willReturn(Optional.of(emailVerification));
+            given(emailVerificationStore.reissueCode(eq(emailVerification), anyString(), any(LocalDateTime.class)))
+                    .willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> joinService.sendJoinEmail(EMAIL))
+                    .isInstanceOf(EmailVerificationConflictException.class);
+            verify(emailVerificationStore, times(3)).reissueCode(eq(emailVerification), anyString(), any(LocalDateTime.class));
+            then(emailDispatcher).shouldHaveNoInteractions();
         }
 
         @Test
@@ -252,25 +327,24 @@ class JoinServiceTest {
                     .expiresAt(now.minusSeconds(1))
                     .build();
 
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(EMAIL, EmailPurpose.SIGNUP))
+            given(emailVerificationStore.findLatest(EMAIL, EmailPurpose.SIGNUP))
                     .willReturn(Optional.of(emailVerification));
+            given(emailVerificationStore.expire(eq(emailVerification), any(LocalDateTime.class))).willReturn(true);
 
             // when
             joinService.sendJoinEmail(EMAIL);
 
             // then
-            then(emailVerificationRepository).should().save(
-                argThat(saved -> saved == emailVerification && saved.getStatus() == EmailVerifyStatus.EXPIRED)
-            );
+            then(emailVerificationStore).should().expire(eq(emailVerification), any(LocalDateTime.class));
 
-            then(emailVerificationRepository).should().save(argThat(saved ->
+            then(emailVerificationStore).should().save(argThat(saved ->
                     saved != emailVerification
                             && EMAIL.equals(saved.getEmail())
                             && saved.getStatus() == EmailVerifyStatus.PENDING
             ));
 
-            then(emailClient).should(times(1)).sendOneEmail(eq(EMAIL), contains("StoreCase"), eq(null));
-            then(emailVerificationRepository).shouldHaveNoMoreInteractions();
+            then(emailDispatcher).should(times(1)).dispatch(eq(EMAIL), contains("StoreCase"), eq(null));
+            then(emailVerificationStore).shouldHaveNoMoreInteractions();
         }
 
     }
@@ -288,7 +362,7 @@ class JoinServiceTest {
                     .status(EmailVerifyStatus.VERIFIED)
                     .attemptCount(0)
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
                     .willReturn(Optional.of(emailVerification));
 
             // when
@@ -298,7 +372,7 @@ class JoinServiceTest {
 
             // then
             assertThat(emailVerificationConfirmResult.getStatus()).isEqualTo(EmailVerifyStatus.VERIFIED);
-            then(emailVerificationRepository).should(never()).save(any());
+            then(emailVerificationStore).should(never()).save(any());
         }
 
         @Test
@@ -311,7 +385,7 @@ class JoinServiceTest {
                     .status(EmailVerifyStatus.LOCKED)
                     .lockedUntil(LocalDateTime.now().plusMinutes(3))
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
                     .willReturn(Optional.of(emailVerification));
 
             // when / then
@@ -319,7 +393,7 @@ class JoinServiceTest {
                     joinService.verifyEmailCode(new EmailVerificationConfirmRequestDto(EMAIL, EMAIL_CODE)))
                     .isInstanceOf(EmailVerificationLockedException.class);
 
-            then(emailVerificationRepository).should(never()).save(any());
+            then(emailVerificationStore).should(never()).save(any());
         }
 
         @Test
@@ -332,7 +406,7 @@ class JoinServiceTest {
                     .status(EmailVerifyStatus.PENDING)
                     .expiresAt(LocalDateTime.now().minusSeconds(1))  // 인증시간 만료된 경우
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
                     .willReturn(Optional.of(emailVerification));
 
             // when & then
@@ -340,9 +414,8 @@ class JoinServiceTest {
                     joinService.verifyEmailCode(new EmailVerificationConfirmRequestDto(EMAIL, EMAIL_CODE)))
                     .isInstanceOf(EmailVerificationExpiredException.class);
 
-            ArgumentCaptor<EmailVerification> emailVerificationArgumentCaptor = ArgumentCaptor.forClass(EmailVerification.class);
-            then(emailVerificationRepository).should().save(emailVerificationArgumentCaptor.capture());
-            assertThat(emailVerificationArgumentCaptor.getValue().getStatus()).isEqualTo(EmailVerifyStatus.EXPIRED);
+            then(emailVerificationStore).should().expire(eq(emailVerification), any(LocalDateTime.class));
+            then(emailVerificationStore).should(never()).save(any());
         }
 
         @Test
@@ -356,8 +429,11 @@ class JoinServiceTest {
                     .expiresAt(LocalDateTime.now().plusMinutes(5))
                     .code(EMAIL_CODE)
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
-                    .willReturn(Optional.of(emailVerification));
+            EmailVerification verified = emailVerification.toBuilder().status(EmailVerifyStatus.VERIFIED).build();
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
+                    .willReturn(Optional.of(emailVerification), Optional.of(verified));
+            given(emailVerificationStore.verify(eq(emailVerification), eq(EMAIL_CODE), anyInt(), any(LocalDateTime.class)))
+                    .willReturn(true);
 
             // when
             EmailVerificationConfirmResponseDto emailVerificationConfirmResult = joinService.verifyEmailCode(
@@ -365,9 +441,35 @@ class JoinServiceTest {
 
             // then
             assertThat(emailVerificationConfirmResult.getStatus()).isEqualTo(EmailVerifyStatus.VERIFIED);
-            ArgumentCaptor<EmailVerification> capturedEmailVerification = ArgumentCaptor.forClass(EmailVerification.class);
-            then(emailVerificationRepository).should().save(capturedEmailVerification.capture());
-            assertThat(capturedEmailVerification.getValue().getStatus()).isEqualTo(EmailVerifyStatus.VERIFIED);
+            then(emailVerificationStore).should(never()).save(any());
+        }
+
+        @Test
+        @DisplayName("회원가입 인증코드 인증 시 코드가 일치해도 다른 요청이 먼저 잠갔다면 예외가 발생한다")
+        void verify_codeMatches_lockedConcurrently_throws() {
+            // given
+            EmailVerification emailVerification = EmailVerification.builder()
+                    .email(EMAIL)
+                    .purpose(EmailPurpose.SIGNUP)
+                    .status(EmailVerifyStatus.PENDING)
+                    .expiresAt(LocalDateTime.now().plusMinutes(5))
+                    .code(EMAIL_CODE)
+                    .attemptCount(4)
+                    .build();
+            EmailVerification locked = emailVerification.toBuilder()
+                    .status(EmailVerifyStatus.LOCKED)
+                    .attemptCount(5)
+                    .lockedUntil(LocalDateTime.now().plusMinutes(15))
+                    .build();
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
+                    .willReturn(Optional.of(emailVerification), Optional.of(locked));
+            given(emailVerificationStore.verify(eq(emailVerification), eq(EMAIL_CODE), anyInt(), any(LocalDateTime.class)))
+                    .willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() ->
+                    joinService.verifyEmailCode(new EmailVerificationConfirmRequestDto(EMAIL, EMAIL_CODE)))
+                    .isInstanceOf(EmailVerificationAttemptLimitExceededException.class);
         }
 
         @Test
@@ -382,8 +484,11 @@ class JoinServiceTest {
                     .code(EMAIL_CODE)
                     .attemptCount(1)  // 시도횟수가 남은 경우
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
-                    .willReturn(Optional.of(emailVerification));
+            EmailVerification updated = emailVerification.toBuilder().attemptCount(2).build();
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
+                    .willReturn(Optional.of(emailVerification), Optional.of(updated));
+            given(emailVerificationStore.increaseAttemptCount(eq(emailVerification), anyInt(), any(LocalDateTime.class)))
+                    .willReturn(true);
 
             // when
             EmailVerificationConfirmResponseDto emailVerificationConfirmResult = joinService.verifyEmailCode(
@@ -391,7 +496,8 @@ class JoinServiceTest {
 
             // then
             assertThat(emailVerificationConfirmResult.getStatus()).isEqualTo(EmailVerifyStatus.PENDING);
-            then(emailVerificationRepository).should().save(any(EmailVerification.class));
+            assertThat(emailVerificationConfirmResult.getAttempts()).isEqualTo(2);
+            then(emailVerificationStore).should(never()).save(any());
         }
 
         @Test
@@ -406,25 +512,55 @@ class JoinServiceTest {
                     .code(EMAIL_CODE)
                     .attemptCount(4)
                     .build();
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
-                    .willReturn(Optional.of(emailVerification));
+            EmailVerification locked = emailVerification.toBuilder()
+                    .status(EmailVerifyStatus.LOCKED)
+                    .attemptCount(5)
+                    .lockedUntil(LocalDateTime.now().plusMinutes(15))
+                    .build();
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
+                    .willReturn(Optional.of(emailVerification), Optional.of(locked));
+            given(emailVerificationStore.increaseAttemptCount(eq(emailVerification), anyInt(), any(LocalDateTime.class)))
+                    .willReturn(true);
 
             // when & then
             assertThatThrownBy(() ->
                     joinService.verifyEmailCode(new EmailVerificationConfirmRequestDto(EMAIL, "different_code")))
                     .isInstanceOf(EmailVerificationAttemptLimitExceededException.class);
 
-            ArgumentCaptor<EmailVerification> emailVerificationArgumentCaptor = ArgumentCaptor.forClass(EmailVerification.class);
-            then(emailVerificationRepository).should().save(emailVerificationArgumentCaptor.capture());
-            assertThat(emailVerificationArgumentCaptor.getValue().getStatus()).isEqualTo(EmailVerifyStatus.LOCKED);
-            assertThat(emailVerificationArgumentCaptor.getValue().getLockedUntil()).isNotNull();
+            ArgumentCaptor<LocalDateTime> lockedUntilCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+            then(emailVerificationStore).should().increaseAttemptCount(eq(emailVerification), eq(5), lockedUntilCaptor.capture());
+            assertThat(lockedUntilCaptor.getValue()).isAfter(LocalDateTime.now());
+        }
+
+        @Test
+        @DisplayName("틀린 코드가 동시에 들어온 올바른 코드에 밀려 반영되지 않으면 인증된 상태가 아니라 실패로 응답한다")
+        void verify_codeNotMatch_lostRaceToVerified_throwsFailed() {
+            // given
+            EmailVerification emailVerification = EmailVerification.builder()
+                    .email(EMAIL)
+                    .purpose(EmailPurpose.SIGNUP)
+                    .status(EmailVerifyStatus.PENDING)
+                    .expiresAt(LocalDateTime.now().plusMinutes(5))
+                    .code(EMAIL_CODE)
+                    .attemptCount(1)
+                    .build();
+            EmailVerification verified = emailVerification.toBuilder().status(EmailVerifyStatus.VERIFIED).build();
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
+                    .willReturn(Optional.of(emailVerification), Optional.of(verified));
+            given(emailVerificationStore.increaseAttemptCount(eq(emailVerification), anyInt(), any(LocalDateTime.class)))
+                    .willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() ->
+                    joinService.verifyEmailCode(new EmailVerificationConfirmRequestDto(EMAIL, "different_code")))
+                    .isInstanceOf(EmailVerificationFailedException.class);
         }
 
         @Test
         @DisplayName("회원가입 이메일 코드 인증 시 기록이 없을 경우 예외가 발생한다")
         void verify_noRecord_throws() {
             // given
-            given(emailVerificationRepository.findTopByEmailAndPurposeOrderByIdDesc(anyString(), eq(EmailPurpose.SIGNUP)))
+            given(emailVerificationStore.findLatest(anyString(), eq(EmailPurpose.SIGNUP)))
                     .willReturn(Optional.empty());
 
             // when / then
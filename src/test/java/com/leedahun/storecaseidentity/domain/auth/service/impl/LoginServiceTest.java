@@ -2,18 +2,32 @@ package com.leedahun.storecaseidentity.domain.auth.service.impl;
 
 import com.leedahun.storecaseidentity.common.error.exception.EntityNotFoundException;
 import com.leedahun.storecaseidentity.domain.auth.dto.*;
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import com.leedahun.storecaseidentity.domain.auth.entity.RefreshTokenFamily;
 import com.leedahun.storecaseidentity.domain.auth.entity.Role;
 import com.leedahun.storecaseidentity.domain.auth.entity.User;
 import com.leedahun.storecaseidentity.domain.auth.exception.InvalidPasswordException;
+import com.leedahun.storecaseidentity.domain.auth.exception.InvalidJwtTokenException;
+import com.leedahun.storecaseidentity.domain.auth.exception.JwtTokenExpiredException;
+import com.leedahun.storecaseidentity.domain.auth.exception.LoginLockedException;
+import com.leedahun.storecaseidentity.domain.auth.exception.RefreshTokenReusedException;
+import com.leedahun.storecaseidentity.domain.auth.exception.RefreshTokenRevokedException;
+import com.leedahun.storecaseidentity.domain.auth.repository.RefreshTokenStore;
 import com.leedahun.storecaseidentity.domain.auth.repository.UserRepository;
+import com.leedahun.storecaseidentity.domain.auth.util.AccessTokenDenylist;
 import com.leedahun.storecaseidentity.domain.auth.util.JwtUtil;
+import com.leedahun.storecaseidentity.domain.auth.util.LoginFailureTracker;
+import com.leedahun.storecaseidentity.domain.auth.util.PasswordHashingExecutor;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -26,11 +40,23 @@ class LoginServiceTest {
     JwtUtil jwtUtil;
 
     @Mock
-    BCryptPasswordEncoder passwordEncoder;
+    PasswordHashingExecutor passwordHashingExecutor;
 
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    AccessTokenDenylist accessTokenDenylist;
+
+    @Mock
+    LoginFailureTracker loginFailureTracker;
+
+    @Mock
+    JwtProperties jwtProperties;
+
     @InjectMocks
     LoginServiceImpl loginService;
 
@@ -39,6 +65,24 @@ class LoginServiceTest {
     private static final String PHONE = "010-1234-5678";
     private static final String RAW_PW = "plainPW!";
     private static final String ENC_PW = "$2a$10$encoded";
+    private static final String CLIENT_IP = "10.0.0.1";
+
+    private static final String TOKEN_ID = "jti-1";
+    private static final String FAMILY_ID = "fid-1";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(loginService, "clock", Clock.systemDefaultZone());
+    }
+
+    private RefreshTokenClaims refreshClaims(Long userId) {
+        return RefreshTokenClaims.builder()
+                .userId(userId)
+                .role(Role.USER.name())
+                .tokenId(TOKEN_ID)
+                .familyId(FAMILY_ID)
+                .build();
+    }
 
     @Test
     @DisplayName("로그인 요청한 사용자 정보가 일치하면 사용자 정보를 반환한다")
@@ -54,25 +98,27 @@ class LoginServiceTest {
                 .build();
 
         given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(RAW_PW, ENC_PW)).willReturn(true);
+        given(passwordHashingExecutor.matches(RAW_PW, ENC_PW)).willReturn(true);
 
-        given(jwtUtil.createAccessToken(1L, Role.USER)).willReturn("access.raw");
-        given(jwtUtil.createRefreshToken(1L, Role.USER)).willReturn("refresh.raw");
+        given(jwtUtil.createAccessToken(eq(1L), eq(Role.USER), anyString())).willReturn("access.raw");
+        given(jwtUtil.createRefreshToken(eq(1L), eq(Role.USER), anyString(), anyString())).willReturn("refresh.raw");
 
         LoginRequestDto loginRequest = new LoginRequestDto(EMAIL, RAW_PW);
 
         // when
-        LoginResult loginResult = loginService.login(loginRequest);
+        LoginResult loginResult = loginService.login(loginRequest, CLIENT_IP);
 
         // then
         LoginResponseDto loginResponseDto = loginResult.getLoginResponseDto();
         verify(userRepository).findByEmail(EMAIL);
-        verify(passwordEncoder).matches(RAW_PW, ENC_PW);
+        verify(passwordHashingExecutor).matches(RAW_PW, ENC_PW);
         assertThat(loginResponseDto.getAccessToken()).isEqualTo("access.raw");
         assertThat(loginResult.getRefreshToken()).isEqualTo("refresh.raw");
         assertThat(loginResponseDto.getEmail()).isEqualTo(EMAIL);
         assertThat(loginResponseDto.getName()).isEqualTo(NAME);
         assertThat(loginResponseDto.getRole()).isEqualTo(Role.USER);
+        verify(refreshTokenStore).save(argThat(family -> family.getUserId().equals(1L) && family.getRotation() == 0));
+        verify(loginFailureTracker).recordSuccess(EMAIL);
     }
 
     @Test
@@ -82,11 +128,12 @@ class LoginServiceTest {
         given(userRepository.findByEmail(EMAIL)).willReturn(Optional.empty());
 
         // when / then
-        assertThatThrownBy(() -> loginService.login(new LoginRequestDto(EMAIL, RAW_PW)))
+        assertThatThrownBy(() -> loginService.login(new LoginRequestDto(EMAIL, RAW_PW), CLIENT_IP))
                 .isInstanceOf(EntityNotFoundException.class);
 
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
-        verify(jwtUtil, never()).createAccessToken(anyLong(), any());
+        verify(passwordHashingExecutor, never()).matches(anyString(), anyString());
+        verify(jwtUtil, never()).createAccessToken(anyLong(), any(), any());
+        verify(loginFailureTracker).recordFailure(EMAIL, CLIENT_IP);
     }
 
     @Test
@@ -101,24 +148,83 @@ class LoginServiceTest {
                 .build();
 
         given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(RAW_PW, ENC_PW)).willReturn(false);
+        given(passwordHashingExecutor.matches(RAW_PW, ENC_PW)).willReturn(false);
 
         // when / then
-        assertThatThrownBy(() -> loginService.login(new LoginRequestDto(EMAIL, RAW_PW)))
+        assertThatThrownBy(() -> loginService.login(new LoginRequestDto(EMAIL, RAW_PW), CLIENT_IP))
                 .isInstanceOf(InvalidPasswordException.class);
 
-        verify(jwtUtil, never()).createAccessToken(anyLong(), any());
+        verify(jwtUtil, never()).createAccessToken(anyLong(), any(), any());
+        verify(loginFailureTracker).recordFailure(EMAIL, CLIENT_IP);
+        verify(loginFailureTracker, never()).recordSuccess(anyString());
     }
 
     @Test
-    @DisplayName("유효한 refresh 토큰이면 새 토큰을 반환한다")
-    void reissueTokens_success() {
+    @DisplayName("로그인이 잠겨 있으면 사용자 조회와 해싱 없이 LoginLockedException이 발생한다")
+    void login_locked_throwsBeforeLookup() {
         // given
-        LoginUser principal = LoginUser.builder()
-                .id(10L)
-                .role(Role.USER.name())
+        willThrow(new LoginLockedException(60)).given(loginFailureTracker).checkNotLocked(EMAIL, CLIENT_IP);
+
+        // when / then
+        assertThatThrownBy(() -> loginService.login(new LoginRequestDto(EMAIL, RAW_PW), CLIENT_IP))
+                .isInstanceOf(LoginLockedException.class);
+
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(passwordHashingExecutor, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("이전 strength로 저장된 비밀번호는 로그인 성공 시 다시 해싱해 저장한다")
+    void login_outdatedEncoding_upgradesPassword() {
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password(ENC_PW)
+                .role(Role.USER)
                 .build();
-        given(jwtUtil.verify("refresh.raw")).willReturn(principal);
+
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(user));
+        given(passwordHashingExecutor.matches(RAW_PW, ENC_PW)).willReturn(true);
+        given(passwordHashingExecutor.upgradeEncoding(ENC_PW)).willReturn(true);
+        given(passwordHashingExecutor.encode(RAW_PW)).willReturn("$2a$12$upgraded");
+
+        // when
+        loginService.login(new LoginRequestDto(EMAIL, RAW_PW), CLIENT_IP);
+
+        // then
+        verify(userRepository).updatePassword(1L, ENC_PW, "$2a$12$upgraded");
+    }
+
+    @Test
+    @DisplayName("현재 strength로 저장된 비밀번호는 다시 해싱하지 않는다")
+    void login_currentEncoding_doesNotUpgrade() {
+        // given
+        User user = User.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password(ENC_PW)
+                .role(Role.USER)
+                .build();
+
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(user));
+        given(passwordHashingExecutor.matches(RAW_PW, ENC_PW)).willReturn(true);
+        given(passwordHashingExecutor.upgradeEncoding(ENC_PW)).willReturn(false);
+
+        // when
+        loginService.login(new LoginRequestDto(EMAIL, RAW_PW), CLIENT_IP);
+
+        // then
+        verify(passwordHashingExecutor, never()).encode(anyString());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("유효한 refresh 토큰이면 family 를 회전시키고 새 토큰을 반환한다")
+    void reissueTokens_success() {
+        // given
+        given(jwtUtil.verifyRefreshToken("refresh.raw")).willReturn(refreshClaims(10L));
+        given(refreshTokenStore.rotate(eq(FAMILY_ID), eq(TOKEN_ID), anyString(), any(), any())).willReturn(true);
 
         User user = User.builder()
                 .id(10L)
@@ -128,8 +234,8 @@ class LoginServiceTest {
                 .build();
         given(userRepository.findById(10L)).willReturn(Optional.of(user));
 
-        given(jwtUtil.createAccessToken(10L, Role.USER)).willReturn("new.access.raw");
-        given(jwtUtil.createRefreshToken(10L, Role.USER)).willReturn("new.refresh.raw");
+        given(jwtUtil.createAccessToken(10L, Role.USER, FAMILY_ID)).willReturn("new.access.raw");
+        given(jwtUtil.createRefreshToken(eq(10L), eq(Role.USER), anyString(), eq(FAMILY_ID))).willReturn("new.refresh.raw");
 
         // when
         TokenResult tokens = loginService.reissueTokens("refresh.raw");
@@ -138,28 +244,142 @@ class LoginServiceTest {
         assertThat(tokens.getAccessToken()).isEqualTo("new.access.raw");
         assertThat(tokens.getRefreshToken()).isEqualTo("new.refresh.raw");
 
-        verify(jwtUtil).verify("refresh.raw");
+        verify(jwtUtil).verifyRefreshToken("refresh.raw");
         verify(userRepository).findById(10L);
-        verify(jwtUtil).createAccessToken(10L, Role.USER);
-        verify(jwtUtil).createRefreshToken(10L, Role.USER);
+        verify(jwtUtil).createAccessToken(10L, Role.USER, FAMILY_ID);
+        verify(refreshTokenStore, never()).revoke(anyString());
     }
 
     @Test
-    @DisplayName("토큰의 사용자 ID가 DB에 없으면 EntityNotFoundException이 발생한다")
-    void reissueTokens_userMissing_throws() {
+    @DisplayName("이전 버전 refresh 토큰은 처음 쓰일 때 family 를 만들고 회전시켜 새 토큰을 반환한다")
+    void reissueTokens_legacyToken_startsFamily() {
         // given
-        LoginUser principal = LoginUser.builder()
-                .id(99L)
+        RefreshTokenClaims legacy = RefreshTokenClaims.builder()
+                .userId(10L)
                 .role(Role.USER.name())
+                .tokenId(FAMILY_ID)
+                .familyId(FAMILY_ID)
+                .legacy(true)
                 .build();
-        given(jwtUtil.verify("refresh.raw")).willReturn(principal);
+        given(jwtUtil.verifyRefreshToken("legacy.raw")).willReturn(legacy);
+        given(userRepository.findById(10L)).willReturn(Optional.of(User.builder().id(10L).role(Role.USER).build()));
+        given(refreshTokenStore.find(FAMILY_ID)).willReturn(Optional.empty());
+        given(refreshTokenStore.rotate(eq(FAMILY_ID), eq(FAMILY_ID), anyString(), any(), any())).willReturn(true);
+        given(jwtUtil.createAccessToken(10L, Role.USER, FAMILY_ID)).willReturn("new.access.raw");
+        given(jwtUtil.createRefreshToken(eq(10L), eq(Role.USER), anyString(), eq(FAMILY_ID))).willReturn("new.refresh.raw");
+
+        // when
+        TokenResult tokens = loginService.reissueTokens("legacy.raw");
+
+        // then
+        assertThat(tokens.getRefreshToken()).isEqualTo("new.refresh.raw");
+        ArgumentCaptor<RefreshTokenFamily> saved = ArgumentCaptor.forClass(RefreshTokenFamily.class);
+        verify(refreshTokenStore).save(saved.capture());
+        assertThat(saved.getValue().getFamilyId()).isEqualTo(FAMILY_ID);
+        assertThat(saved.getValue().getTokenId()).isEqualTo(FAMILY_ID);
+        assertThat(saved.getValue().getUserId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("토큰의 사용자 ID가 DB에 없으면 EntityNotFoundException이 발생한다")
+    void reissueTokens_userMissing_throws() {
+        // given
+        given(jwtUtil.verifyRefreshToken("refresh.raw")).willReturn(refreshClaims(99L));
         given(userRepository.findById(99L)).willReturn(Optional.empty());
 
         // when / then
         assertThatThrownBy(() -> loginService.reissueTokens("refresh.raw"))
                 .isInstanceOf(EntityNotFoundException.class);
 
-        verify(jwtUtil, never()).createAccessToken(anyLong(), any());
+        verify(jwtUtil, never()).createAccessToken(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 교체된 refresh 토큰이 다시 들어오면 family 를 폐기하고 RefreshTokenReusedException이 발생한다")
+    void reissueTokens_reusedToken_revokesFamily() {
+        // given
+        given(jwtUtil.verifyRefreshToken("refresh.raw")).willReturn(refreshClaims(10L));
+        given(userRepository.findById(10L)).willReturn(Optional.of(User.builder().id(10L).role(Role.USER).build()));
+        given(refreshTokenStore.rotate(eq(FAMILY_ID), eq(TOKEN_ID), anyString(), any(), any())).willReturn(false);
+        given(refreshTokenStore.find(FAMILY_ID)).willReturn(Optional.of(RefreshTokenFamily.builder()
+                .familyId(FAMILY_ID)
+                .userId(10L)
+                .tokenId("jti-2")
+                .rotation(1)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build()));
+
+        // when / then
+        assertThatThrownBy(() -> loginService.reissueTokens("refresh.raw"))
+                .isInstanceOf(RefreshTokenReusedException.class);
+
+        verify(refreshTokenStore).revoke(FAMILY_ID);
+        verify(accessTokenDenylist).revoke(eq(FAMILY_ID), anyLong());
+        verify(jwtUtil, never()).createAccessToken(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("폐기된 family 의 refresh 토큰이면 RefreshTokenRevokedException이 발생한다")
+    void reissueTokens_revokedFamily_throws() {
+        // given
+        given(jwtUtil.verifyRefreshToken("refresh.raw")).willReturn(refreshClaims(10L));
+        given(userRepository.findById(10L)).willReturn(Optional.of(User.builder().id(10L).role(Role.USER).build()));
+        given(refreshTokenStore.rotate(eq(FAMILY_ID), eq(TOKEN_ID), anyString(), any(), any())).willReturn(false);
+        given(refreshTokenStore.find(FAMILY_ID)).willReturn(Optional.of(RefreshTokenFamily.builder()
+                .familyId(FAMILY_ID)
+                .userId(10L)
+                .tokenId(TOKEN_ID)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .revoked(true)
+                .build()));
+
+        // when / then
+        assertThatThrownBy(() -> loginService.reissueTokens("refresh.raw"))
+                .isInstanceOf(RefreshTokenRevokedException.class);
+
+        verify(refreshTokenStore, never()).revoke(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 refresh 토큰의 family 와 같은 sid 의 access 토큰을 폐기한다")
+    void logout_revokesFamily() {
+        // given
+        given(jwtUtil.verifyRefreshToken("refresh.raw")).willReturn(refreshClaims(10L));
+
+        // when
+        loginService.logout("refresh.raw");
+
+        // then
+        verify(refreshTokenStore).revoke(FAMILY_ID);
+        verify(accessTokenDenylist).revoke(eq(FAMILY_ID), anyLong());
+    }
+
+    @Test
+    @DisplayName("만료된 refresh 토큰으로 로그아웃하면 폐기하지 않고 종료한다")
+    void logout_expiredToken_doesNothing() {
+        // given
+        given(jwtUtil.verifyRefreshToken("refresh.raw")).willThrow(new JwtTokenExpiredException());
+
+        // when
+        loginService.logout("refresh.raw");
+
+        // then
+        verify(refreshTokenStore, never()).revoke(anyString());
+        verify(accessTokenDenylist, never()).revoke(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 refresh 토큰으로 로그아웃하면 예외 없이 폐기하지 않고 종료한다")
+    void logout_invalidToken_doesNothing() {
+        // given
+        given(jwtUtil.verifyRefreshToken("refresh.raw")).willThrow(new InvalidJwtTokenException());
+
+        // when
+        loginService.logout("refresh.raw");
+
+        // then
+        verify(refreshTokenStore, never()).revoke(anyString());
+        verify(accessTokenDenylist, never()).revoke(anyString(), anyLong());
     }
 
 }
\ No newline at end of file
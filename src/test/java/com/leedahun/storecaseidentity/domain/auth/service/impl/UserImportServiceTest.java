@@ -0,0 +1,257 @@
+package com.leedahun.storecaseidentity.domain.auth.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.leedahun.storecaseidentity.config.JpaAuditConfig;
+import com.leedahun.storecaseidentity.domain.auth.config.UserImportProperties;
+import com.leedahun.storecaseidentity.domain.auth.dto.JoinRequestDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto.Failure;
+import com.leedahun.storecaseidentity.domain.auth.dto.UserImportResponseDto.FailureReason;
+import com.leedahun.storecaseidentity.domain.auth.entity.User;
+import com.leedahun.storecaseidentity.domain.auth.exception.UserImportLimitExceededException;
+import com.leedahun.storecaseidentity.domain.auth.repository.UserRepository;
+import com.leedahun.storecaseidentity.domain.auth.repository.impl.JdbcUserBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 실제 H2 에 IN 조회와 JDBC batch insert 를 실행해 chunk 별 결과와 실패 목록을 확인한다.
+ * chunk 마다 커밋되어야 하므로 테스트 트랜잭션 없이 실행한다.
+ */
+@DataJpaTest
+@Import({JdbcUserBatchRepository.class, JpaAuditConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserImportServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcUserBatchRepository userBatchRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private UserImportProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private UserImportServiceImpl userImportService;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(4);
+        properties = new UserImportProperties();
+        properties.setChunkSize(3);
+        properties.setMaxUsers(10);
+        properties.setHashingThreads(2);
+        meterRegistry = new SimpleMeterRegistry();
+        userImportService = new UserImportServiceImpl(userRepository, userBatchRepository, passwordEncoder,
+                transactionManager, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+        userRepository.deleteAll();
+    }
+
+    private static JoinRequestDto user(String email) {
+        return JoinRequestDto.builder()
+                .email(email)
+                .password("pw-" + email)
+                .name("name")
+                .phone("010-0000-0000")
+                .build();
+    }
+
+    @Test
+    @DisplayName("chunk 단위로 해싱한 비밀번호와 함께 모두 저장하고 chunk 별 결과를 돌려준다")
+    void importUsers_insertsAllChunks() {
+        // given
+        List<JoinRequestDto> users = IntStream.range(0, 7).mapToObj(i -> user("user" + i + "@test.com")).toList();
+
+        // when
+        UserImportResponseDto result = userImportService.importUsers(users);
+
+        // then
+        assertThat(result.getImported()).isEqualTo(7);
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getChunks()).extracting(UserImportResponseDto.ChunkResult::getRequested).containsExactly(3, 3, 1);
+
+        User saved = userRepository.findByEmail("user6@test.com").orElseThrow();
+        assertThat(passwordEncoder.matches("pw-user6@test.com", saved.getPassword())).isTrue();
+        assertThat(saved.getCreatedAt()).isNotNull();
+        assertThat(meterRegistry.get("auth.user_import.users").tag("result", "imported").counter().count()).isEqualTo(7.0);
+    }
+
+    @Test
+    @DisplayName("이미 가입된 이메일, 요청 안의 중복, 필수값 누락은 건너뛰고 나머지만 저장한다")
+    void importUsers_skipsExistingDuplicateAndInvalid() {
+        // given
+        userRepository.save(User.builder().email("exists@test.com").password("encoded").name("name").build());
+        List<JoinRequestDto> users = List.of(
+                user("new1@test.com"),
+                user("exists@test.com"),
+                user("NEW1@test.com"),
+                JoinRequestDto.builder().email("nopw@test.com").build(),
+                user("new2@test.com"));
+
+        // when
+        UserImportResponseDto result = userImportService.importUsers(users);
+
+        // then
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getSkipped()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+        assertThat(result.getFailures())
+                .extracting(Failure::getIndex, Failure::getReason)
+                .containsExactlyInAnyOrder(
+                        tuple(1, FailureReason.ALREADY_EXISTS),
+                        tuple(2, FailureReason.DUPLICATE_IN_REQUEST),
+                        tuple(3, FailureReason.INVALID));
+        assertThat(userRepository.findByEmail("new2@test.com")).isPresent();
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("컬럼 길이나 이메일 형식에 맞지 않는 회원만 INVALID 로 거르고 같은 chunk 의 나머지는 공백을 지운 이메일로 저장한다")
+    void importUsers_invalidRows_skippedWithoutFailingChunk() {
+        // given
+        List<JoinRequestDto> users = List.of(
+                user("  trimmed@test.com "),
+                JoinRequestDto.builder().email("longname@test.com").password("pw").name("n".repeat(61)).build(),
+                JoinRequestDto.builder().email("longphone@test.com").password("pw").phone("0".repeat(31)).build(),
+                user("not-an-email"),
+                user("a".repeat(115) + "@test.com"));
+
+        // when
+        UserImportResponseDto result = userImportService.importUsers(users);
+
+        // then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isZero();
+        assertThat(result.getFailures())
+                .extracting(Failure::getIndex, Failure::getReason)
+                .containsExactlyInAnyOrder(
+                        tuple(1, FailureReason.INVALID),
+                        tuple(2, FailureReason.INVALID),
+                        tuple(3, FailureReason.INVALID),
+                        tuple(4, FailureReason.INVALID));
+        assertThat(userRepository.findByEmail("trimmed@test.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("한 chunk 의 해싱이 실패하면 그 chunk 만 HASH_FAILED 로 기록하고 다음 chunk 는 저장한다")
+    void importUsers_hashingFails_marksChunkAndContinues() {
+        // given
+        BCryptPasswordEncoder failingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if (rawPassword.toString().contains("broken")) {
+                    throw new IllegalArgumentException("hashing failed");
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        userImportService.shutdown();
+        userImportService = new UserImportServiceImpl(userRepository, userBatchRepository, failingEncoder,
+                transactionManager, properties, meterRegistry, Clock.systemDefaultZone());
+        List<JoinRequestDto> users = List.of(
+                user("a@test.com"),
+                user("broken@test.com"),
+                user("b@test.com"),
+                user("c@test.com"));
+
+        // when
+        UserImportResponseDto result = userImportService.importUsers(users);
+
+        // then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getFailures())
+                .extracting(Failure::getIndex, Failure::getReason)
+                .containsExactlyInAnyOrder(
+                        tuple(0, FailureReason.HASH_FAILED),
+                        tuple(1, FailureReason.HASH_FAILED),
+                        tuple(2, FailureReason.HASH_FAILED));
+        assertThat(userRepository.findByEmail("c@test.com")).isPresent();
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해싱을 기다리던 중 인터럽트되면 그 chunk 는 HASH_FAILED, 남은 chunk 는 ABORTED 로 기록하고 앞선 결과를 돌려준다")
+    void importUsers_interrupted_keepsCommittedChunks() {
+        // given
+        Thread requestThread = Thread.currentThread();
+        BCryptPasswordEncoder interruptingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if (rawPassword.toString().contains("stop")) {
+                    requestThread.interrupt();
+                    try {
+                        Thread.sleep(1000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        userImportService.shutdown();
+        userImportService = new UserImportServiceImpl(userRepository, userBatchRepository, interruptingEncoder,
+                transactionManager, properties, meterRegistry, Clock.systemDefaultZone());
+        List<JoinRequestDto> users = List.of(
+                user("a@test.com"), user("b@test.com"), user("c@test.com"),
+                user("d@test.com"), user("stop@test.com"), user("e@test.com"),
+                user("f@test.com"));
+
+        // when
+        UserImportResponseDto result;
+        try {
+            result = userImportService.importUsers(users);
+        } finally {
+            Thread.interrupted();
+        }
+
+        // then
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getChunks()).hasSize(2);
+        assertThat(result.getFailures())
+                .extracting(Failure::getIndex, Failure::getReason)
+                .containsExactlyInAnyOrder(
+                        tuple(3, FailureReason.HASH_FAILED),
+                        tuple(4, FailureReason.HASH_FAILED),
+                        tuple(5, FailureReason.HASH_FAILED),
+                        tuple(6, FailureReason.ABORTED));
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("max_users 를 넘으면 아무것도 저장하지 않고 UserImportLimitExceededException 발생")
+    void importUsers_overLimit_throws() {
+        // given
+        List<JoinRequestDto> users = IntStream.range(0, 11).mapToObj(i -> user("user" + i + "@test.com")).toList();
+
+        // when & then
+        assertThatThrownBy(() -> userImportService.importUsers(users))
+                .isInstanceOf(UserImportLimitExceededException.class);
+        assertThat(userRepository.count()).isZero();
+    }
+}
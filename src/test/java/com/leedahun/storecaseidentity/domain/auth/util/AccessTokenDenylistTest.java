@@ -0,0 +1,117 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import java.time.Clock;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenDenylistTest {
+
+    private static final long ACCESS_EXP_MS = 60_000L;
+    private static final long NOW = 1_700_000_000_000L;
+
+    private Clock clock;
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setExpirationTime(ACCESS_EXP_MS);
+
+        clock = mock(Clock.class);
+        given(clock.millis()).willReturn(NOW);
+        accessTokenDenylist = new AccessTokenDenylist(jwtProperties, clock, 100, 0.01);
+    }
+
+    @Test
+    @DisplayName("폐기한 id 만 거절하고 다른 id 는 통과시킨다")
+    void revoke_onlyRevokedIdIsDenied() {
+        // when
+        accessTokenDenylist.revoke("jti-1", NOW + ACCESS_EXP_MS);
+
+        // then
+        assertThat(accessTokenDenylist.isRevoked("jti-1")).isTrue();
+        assertThat(accessTokenDenylist.isRevoked("jti-2")).isFalse();
+        assertThat(accessTokenDenylist.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("원래 토큰의 만료 시각이 지나면 더 이상 거절하지 않는다")
+    void isRevoked_afterExpiry_returnsFalse() {
+        // given
+        accessTokenDenylist.revoke("jti-1", NOW + 10_000);
+
+        // when
+        given(clock.millis()).willReturn(NOW + 10_000);
+
+        // then
+        assertThat(accessTokenDenylist.isRevoked("jti-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 보관하지 않는다")
+    void revoke_expiredToken_isIgnored() {
+        // when
+        accessTokenDenylist.revoke("jti-1", NOW - 1);
+
+        // then
+        assertThat(accessTokenDenylist.isRevoked("jti-1")).isFalse();
+        assertThat(accessTokenDenylist.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("access token 수명보다 긴 만료 시각은 수명까지로 자른다")
+    void revoke_beyondLifetime_isClamped() {
+        // given
+        accessTokenDenylist.revoke("sid-1", NOW + ACCESS_EXP_MS * 10);
+
+        // when
+        given(clock.millis()).willReturn(NOW + ACCESS_EXP_MS + 1);
+
+        // then
+        assertThat(accessTokenDenylist.isRevoked("sid-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간 창이 여러 번 돌아도 만료 전인 항목은 계속 거절한다")
+    void revoke_acrossRotations_keepsLiveEntries() {
+        // given
+        long now = NOW;
+        String last = null;
+        for (int i = 0; i < 50; i++) {
+            now += ACCESS_EXP_MS / 8;
+            given(clock.millis()).willReturn(now);
+            last = UUID.randomUUID().toString();
+            accessTokenDenylist.revoke(last, now + ACCESS_EXP_MS);
+        }
+
+        // when
+        accessTokenDenylist.purgeExpired();
+
+        // then
+        assertThat(accessTokenDenylist.isRevoked(last)).isTrue();
+        assertThat(accessTokenDenylist.size()).isLessThanOrEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 purgeExpired 로 정확한 집합에서도 지운다")
+    void purgeExpired_removesExpiredEntries() {
+        // given
+        accessTokenDenylist.revoke("jti-1", NOW + 1_000);
+        accessTokenDenylist.revoke("jti-2", NOW + ACCESS_EXP_MS);
+
+        // when
+        given(clock.millis()).willReturn(NOW + 1_000);
+        accessTokenDenylist.purgeExpired();
+
+        // then
+        assertThat(accessTokenDenylist.size()).isEqualTo(1);
+        assertThat(accessTokenDenylist.isRevoked("jti-2")).isTrue();
+    }
+}
@@ -0,0 +1,29 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    @DisplayName("목표 시간이 매우 짧으면 최소 strength를 반환한다")
+    void calibrate_tinyTarget_returnsMinStrength() {
+        // when
+        int strength = BCryptStrengthCalibrator.calibrate(0, 4, 6);
+
+        // then
+        assertThat(strength).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 충분히 길면 최대 strength를 넘지 않는다")
+    void calibrate_hugeTarget_returnsMaxStrength() {
+        // when
+        int strength = BCryptStrengthCalibrator.calibrate(60_000, 4, 6);
+
+        // then
+        assertThat(strength).isEqualTo(6);
+    }
+}
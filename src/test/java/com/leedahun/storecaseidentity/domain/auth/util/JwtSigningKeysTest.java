@@ -0,0 +1,179 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
+import com.leedahun.storecaseidentity.domain.auth.constant.JwtSigningAlgorithm;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class JwtSigningKeysTest {
+
+    private JwtProperties jwtProperties;
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        environment.setActiveProfiles("test");
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("test-secret-key");
+        jwtProperties.setExpirationTime(60_000L);
+        jwtProperties.setAlgorithm(JwtSigningAlgorithm.ES256);
+    }
+
+    @Test
+    @DisplayName("HS512 에서는 JWKS 에 아무 키도 공개하지 않는다")
+    void hs512_publishesNoKeys() {
+        // given
+        jwtProperties.setAlgorithm(JwtSigningAlgorithm.HS512);
+
+        // when
+        JwtSigningKeys jwtSigningKeys = new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), environment);
+
+        // then
+        assertThat(keys(jwtSigningKeys)).isEmpty();
+        assertThat(jwtSigningKeys.current().algorithm().getName()).isEqualTo("HS512");
+    }
+
+    @Test
+    @DisplayName("JWKS 의 공개키만으로 ES256 토큰을 검증할 수 있다")
+    void es256_tokenVerifiesWithPublishedJwk() throws Exception {
+        // given
+        JwtSigningKeys jwtSigningKeys = new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), environment);
+        String token = JWT.create().withSubject("token").sign(jwtSigningKeys.current().algorithm());
+
+        // when
+        Map<String, String> jwk = keys(jwtSigningKeys).get(0);
+        DecodedJWT decodedJWT = JWT.require(Algorithm.ECDSA256(toPublicKey(jwk), null))
+                .build()
+                .verify(token);
+
+        // then
+        assertThat(decodedJWT.getKeyId()).isEqualTo(jwk.get("kid"));
+        assertThat(jwk).containsEntry("kty", "EC").containsEntry("crv", "P-256").containsEntry("alg", "ES256");
+    }
+
+    @Test
+    @DisplayName("설정한 키와 kid 로 서명하고, 이전 키도 JWKS 와 검증에 함께 사용한다")
+    void es256_configuredKeys_acceptPreviousKey() throws Exception {
+        // given
+        KeyPair previous = generateKeyPair();
+        jwtProperties.setKeyId("key-1");
+        jwtProperties.setPrivateKey(encode(previous.getPrivate().getEncoded()));
+        jwtProperties.setPublicKey(encode(previous.getPublic().getEncoded()));
+        String previousToken = JWT.create()
+                .sign(new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), environment).current().algorithm());
+
+        KeyPair current = generateKeyPair();
+        jwtProperties.setKeyId("key-2");
+        jwtProperties.setPrivateKey(encode(current.getPrivate().getEncoded()));
+        jwtProperties.setPublicKey(encode(current.getPublic().getEncoded()));
+        jwtProperties.getPreviousPublicKeys().put("key-1", encode(previous.getPublic().getEncoded()));
+
+        // when
+        JwtSigningKeys jwtSigningKeys = new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), environment);
+        String currentToken = JWT.create().sign(jwtSigningKeys.current().algorithm());
+
+        // then
+        assertThat(keys(jwtSigningKeys)).extracting(jwk -> jwk.get("kid")).containsExactly("key-2", "key-1");
+        assertThat(JWT.decode(currentToken).getKeyId()).isEqualTo("key-2");
+        assertThat(jwtSigningKeys.current().verifier().verify(previousToken).getKeyId()).isEqualTo("key-1");
+        assertThat(jwtSigningKeys.current().verifier().verify(currentToken).getKeyId()).isEqualTo("key-2");
+    }
+
+    @Test
+    @DisplayName("개인키와 공개키 중 하나만 설정하면 IllegalStateException 발생")
+    void es256_partialKeyPair_throws() throws Exception {
+        // given
+        jwtProperties.setPrivateKey(encode(generateKeyPair().getPrivate().getEncoded()));
+
+        // when & then
+        assertThatThrownBy(() -> new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), environment))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("local, test 프로필이 아니면 ES256 키 없이 시작하지 않는다")
+    void es256_withoutKeysOutsideLocal_throws() {
+        // given
+        environment.setActiveProfiles("prod");
+
+        // when & then
+        assertThatThrownBy(() -> new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), environment))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("jwt.private_key");
+    }
+
+    @Test
+    @DisplayName("설정한 개인키와 공개키가 한 쌍이 아니면 IllegalStateException 발생")
+    void es256_mismatchedKeyPair_throws() throws Exception {
+        // given
+        jwtProperties.setPrivateKey(encode(generateKeyPair().getPrivate().getEncoded()));
+        jwtProperties.setPublicKey(encode(generateKeyPair().getPublic().getEncoded()));
+        environment.setActiveProfiles("prod");
+
+        // when & then
+        assertThatThrownBy(() -> new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), environment))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not a key pair");
+    }
+
+    @Test
+    @DisplayName("키가 같으면 ETag 도 같다")
+    void jwksETag_isStableForSameKeys() throws Exception {
+        // given
+        KeyPair keyPair = generateKeyPair();
+        jwtProperties.setPrivateKey(encode(keyPair.getPrivate().getEncoded()));
+        jwtProperties.setPublicKey(encode(keyPair.getPublic().getEncoded()));
+
+        // when & then
+        assertThat(new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), environment).jwksETag())
+                .isEqualTo(new JwtSigningKeys(jwtProperties, Clock.systemDefaultZone(), environment).jwksETag());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, String>> keys(JwtSigningKeys jwtSigningKeys) {
+        return (List<Map<String, String>>) jwtSigningKeys.jwks().get("keys");
+    }
+
+    private static ECPublicKey toPublicKey(Map<String, String> jwk) throws Exception {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECParameterSpec spec = parameters.getParameterSpec(ECParameterSpec.class);
+        ECPoint point = new ECPoint(
+                new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("x"))),
+                new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("y"))));
+        return (ECPublicKey) KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, spec));
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String encode(byte[] der) {
+        return Base64.getEncoder().encodeToString(der);
+    }
+}
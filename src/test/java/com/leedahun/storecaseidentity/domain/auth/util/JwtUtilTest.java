@@ -3,8 +3,10 @@ package com.leedahun.storecaseidentity.domain.auth.util;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.leedahun.storecaseidentity.domain.auth.constant.JwtConstants;
+import com.leedahun.storecaseidentity.domain.auth.constant.JwtSigningAlgorithm;
 import com.leedahun.storecaseidentity.domain.auth.config.JwtProperties;
 import com.leedahun.storecaseidentity.domain.auth.dto.LoginUser;
+import com.leedahun.storecaseidentity.domain.auth.dto.RefreshTokenClaims;
 import com.leedahun.storecaseidentity.domain.auth.entity.Role;
 import com.leedahun.storecaseidentity.domain.auth.exception.InvalidJwtTokenException;
 import com.leedahun.storecaseidentity.domain.auth.exception.JwtTokenExpiredException;
@@ -12,7 +14,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Date;
+import org.springframework.mock.env.MockEnvironment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -21,10 +28,12 @@ class JwtUtilTest {
 
     private JwtUtil jwtUtil;
     private JwtProperties jwtProperties;
+    private AccessTokenDenylist accessTokenDenylist;
 
     private final String SECRET = "test-secret-key";
     private final long ACCESS_EXP_MS = 60_000L;
     private final long REFRESH_EXP_MS = 86_400_000L;
+    private final String SESSION_ID = "sid-1";
 
     @BeforeEach
     void setUp() {
@@ -33,7 +42,19 @@ class JwtUtilTest {
         jwtProperties.setExpirationTime(ACCESS_EXP_MS);
         jwtProperties.setRefreshExpirationTime(REFRESH_EXP_MS);
 
-        jwtUtil = new JwtUtil(jwtProperties);
+        accessTokenDenylist = new AccessTokenDenylist(jwtProperties, Clock.systemDefaultZone(), 1_000, 0.01);
+        jwtUtil = jwtUtil(Clock.systemDefaultZone());
+    }
+
+    private JwtUtil jwtUtil(Clock clock) {
+        return new JwtUtil(jwtProperties, clock, accessTokenDenylist, new JwtSigningKeys(jwtProperties, clock, testEnvironment()));
+    }
+
+    // ES256 을 키 없이 쓰는 테스트가 있으므로 test 프로필로 임시 키를 허용한다
+    private static MockEnvironment testEnvironment() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("test");
+        return environment;
     }
 
     @Test
@@ -44,7 +65,7 @@ class JwtUtilTest {
         Role role = Role.USER;
 
         // when
-        String accessToken = jwtUtil.createAccessToken(userId, role);
+        String accessToken = jwtUtil.createAccessToken(userId, role, SESSION_ID);
 
         // then
         LoginUser loginUser = jwtUtil.verify(accessToken);
@@ -60,12 +81,70 @@ class JwtUtilTest {
         Role role = Role.ADMIN;
 
         // when
-        String refreshToken = jwtUtil.createRefreshToken(userId, role);
+        String refreshToken = jwtUtil.createRefreshToken(userId, role, "jti-1", "fid-1");
 
         // then
-        LoginUser loginUser = jwtUtil.verify(refreshToken);
-        assertThat(loginUser.getId()).isEqualTo(userId);
-        assertThat(loginUser.getRole()).isEqualTo(role.name());
+        RefreshTokenClaims claims = jwtUtil.verifyRefreshToken(refreshToken);
+        assertThat(claims.getUserId()).isEqualTo(userId);
+        assertThat(claims.getRole()).isEqualTo(role.name());
+        assertThat(claims.getTokenId()).isEqualTo("jti-1");
+        assertThat(claims.getFamilyId()).isEqualTo("fid-1");
+    }
+
+    @Test
+    @DisplayName("Refresh Token 을 Access Token 으로 검증하면 InvalidJwtTokenException 발생")
+    void verify_refreshToken_throwsInvalidJwtTokenException() {
+        // given
+        String refreshToken = jwtUtil.createRefreshToken(7L, Role.USER, "jti-1", "fid-1");
+
+        // then
+        assertThrows(InvalidJwtTokenException.class, () -> jwtUtil.verify(refreshToken));
+    }
+
+    @Test
+    @DisplayName("Access Token 으로 재발급을 요청하면 InvalidJwtTokenException 발생")
+    void verifyRefreshToken_accessToken_throwsInvalidJwtTokenException() {
+        // given
+        String accessToken = jwtUtil.createAccessToken(7L, Role.USER, SESSION_ID);
+
+        // then
+        assertThrows(InvalidJwtTokenException.class, () -> jwtUtil.verifyRefreshToken(accessToken));
+    }
+
+    // jti, fid 를 넣기 전 버전의 refresh token
+    private String legacyRefreshToken(long remainingMillis) {
+        return JWT.create()
+                .withSubject(JwtConstants.CLAIM_SUBJECT)
+                .withExpiresAt(new Date(System.currentTimeMillis() + remainingMillis))
+                .withClaim(JwtConstants.CLAIM_ID, 7L)
+                .withClaim(JwtConstants.CLAIM_ROLE, Role.USER.name())
+                .sign(Algorithm.HMAC512(SECRET));
+    }
+
+    @Test
+    @DisplayName("jti, fid 없는 이전 refresh token 은 토큰마다 고정된 family 로 받아들인다")
+    void verifyRefreshToken_legacyToken_derivesFamily() {
+        // given
+        String legacyToken = legacyRefreshToken(REFRESH_EXP_MS / 2);
+
+        // when
+        RefreshTokenClaims claims = jwtUtil.verifyRefreshToken(legacyToken);
+
+        // then
+        assertThat(claims.isLegacy()).isTrue();
+        assertThat(claims.getUserId()).isEqualTo(7L);
+        assertThat(claims.getFamilyId()).hasSize(36).isEqualTo(jwtUtil.verifyRefreshToken(legacyToken).getFamilyId());
+        assertThat(claims.getFamilyId()).isNotEqualTo(jwtUtil.verifyRefreshToken(legacyRefreshToken(REFRESH_EXP_MS / 3)).getFamilyId());
+    }
+
+    @Test
+    @DisplayName("access token 수명보다 짧게 남은 이전 토큰은 access token 과 구분할 수 없어 InvalidJwtTokenException 발생")
+    void verifyRefreshToken_legacyTokenWithinAccessLifetime_throws() {
+        // given
+        String legacyToken = legacyRefreshToken(ACCESS_EXP_MS / 2);
+
+        // then
+        assertThrows(InvalidJwtTokenException.class, () -> jwtUtil.verifyRefreshToken(legacyToken));
     }
 
     @Test
@@ -83,6 +162,52 @@ class JwtUtilTest {
         assertThrows(JwtTokenExpiredException.class, () -> jwtUtil.verify(expiredToken));
     }
 
+    @Test
+    @DisplayName("만료 여부는 주입된 Clock 기준으로 판단한다")
+    void verify_usesInjectedClock() {
+        // given
+        Instant issuedAt = Instant.parse("2025-01-01T00:00:00Z");
+        String token = jwtUtil(Clock.fixed(issuedAt, ZoneId.of("UTC")))
+                .createAccessToken(1L, Role.USER, SESSION_ID);
+
+        // when
+        JwtUtil beforeExpiry = jwtUtil(Clock.fixed(issuedAt.plusMillis(ACCESS_EXP_MS - 1_000), ZoneId.of("UTC")));
+        JwtUtil afterExpiry = jwtUtil(Clock.fixed(issuedAt.plus(Duration.ofMillis(ACCESS_EXP_MS)).plusSeconds(1), ZoneId.of("UTC")));
+
+        // then
+        assertThat(beforeExpiry.verify(token).getId()).isEqualTo(1L);
+        assertThrows(JwtTokenExpiredException.class, () -> afterExpiry.verify(token));
+    }
+
+    @Test
+    @DisplayName("sid 가 폐기된 Access Token 은 InvalidJwtTokenException 발생")
+    void verify_revokedSession_throwsInvalidJwtTokenException() {
+        // given
+        String accessToken = jwtUtil.createAccessToken(1L, Role.USER, SESSION_ID);
+        String otherSessionToken = jwtUtil.createAccessToken(1L, Role.USER, "sid-2");
+
+        // when
+        accessTokenDenylist.revoke(SESSION_ID, System.currentTimeMillis() + ACCESS_EXP_MS);
+
+        // then
+        assertThrows(InvalidJwtTokenException.class, () -> jwtUtil.verify(accessToken));
+        assertThat(jwtUtil.verify(otherSessionToken).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("jti 가 폐기된 Access Token 은 InvalidJwtTokenException 발생")
+    void verify_revokedTokenId_throwsInvalidJwtTokenException() {
+        // given
+        String accessToken = jwtUtil.createAccessToken(1L, Role.USER, SESSION_ID);
+        String tokenId = JWT.decode(accessToken).getId();
+
+        // when
+        accessTokenDenylist.revoke(tokenId, System.currentTimeMillis() + ACCESS_EXP_MS);
+
+        // then
+        assertThrows(InvalidJwtTokenException.class, () -> jwtUtil.verify(accessToken));
+    }
+
     @Test
     @DisplayName("서명이 잘못된 토큰은 InvalidJwtTokenException 발생")
     void verify_invalidSignature_throwsInvalidJwtTokenException() {
@@ -98,4 +223,37 @@ class JwtUtilTest {
         assertThrows(InvalidJwtTokenException.class, () -> jwtUtil.verify(invalidToken));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("secret이 변경되면 새 secret으로 서명/검증하고 이전 토큰은 InvalidJwtTokenException 발생")
+    void secretChanged_rebuildsSigningKey() {
+        // given
+        String oldToken = jwtUtil.createAccessToken(1L, Role.USER, SESSION_ID);
+
+        // when
+        jwtProperties.setSecret("rotated-secret-key");
+        String newToken = jwtUtil.createAccessToken(1L, Role.USER, SESSION_ID);
+
+        // then
+        assertThat(jwtUtil.verify(newToken).getId()).isEqualTo(1L);
+        assertThrows(InvalidJwtTokenException.class, () -> jwtUtil.verify(oldToken));
+    }
+
+    @Test
+    @DisplayName("ES256 으로 서명한 토큰은 kid 헤더를 달고, HS512 로 서명한 토큰은 거절한다")
+    void es256_signsWithKeyId_andRejectsHmacToken() {
+        // given
+        String hmacToken = jwtUtil.createAccessToken(1L, Role.USER, SESSION_ID);
+        jwtProperties.setAlgorithm(JwtSigningAlgorithm.ES256);
+        JwtUtil es256JwtUtil = jwtUtil(Clock.systemDefaultZone());
+
+        // when
+        String token = es256JwtUtil.createAccessToken(1L, Role.USER, SESSION_ID);
+
+        // then
+        assertThat(JWT.decode(token).getAlgorithm()).isEqualTo("ES256");
+        assertThat(JWT.decode(token).getKeyId()).isNotBlank();
+        assertThat(es256JwtUtil.verify(token).getId()).isEqualTo(1L);
+        assertThrows(InvalidJwtTokenException.class, () -> es256JwtUtil.verify(hmacToken));
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.leedahun.storecaseidentity.domain.auth.config.LoginLockoutProperties;
+import com.leedahun.storecaseidentity.domain.auth.exception.LoginLockedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoginFailureTrackerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final String EMAIL = "user@test.com";
+    private static final String IP = "10.0.0.1";
+
+    private Clock clock;
+    private LoginLockoutProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private LoginFailureTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        given(clock.millis()).willReturn(NOW);
+        properties = new LoginLockoutProperties();
+        properties.setWindowMillis(60_000);
+        properties.setBuckets(6);
+        properties.setEmailThreshold(3);
+        properties.setIpThreshold(5);
+        properties.setLockMillis(120_000);
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new LoginFailureTracker(properties, clock, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("이메일 실패가 임계치에 닿으면 lockMillis 동안 잠기고 남은 시간을 알려준다")
+    void recordFailure_locksEmailAtThreshold() {
+        // given
+        tracker.recordFailure(EMAIL, IP);
+        tracker.recordFailure(EMAIL, IP);
+        tracker.checkNotLocked(EMAIL, IP);
+
+        // when
+        tracker.recordFailure("User@Test.com ", IP);
+
+        // then
+        assertThatThrownBy(() -> tracker.checkNotLocked(EMAIL, "10.0.0.2"))
+                .isInstanceOfSatisfying(LoginLockedException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(120));
+        assertThat(meterRegistry.get("auth.login.lockout").tag("key", "email").counter().count()).isEqualTo(1.0);
+
+        given(clock.millis()).willReturn(NOW + 120_000);
+        assertThatCode(() -> tracker.checkNotLocked(EMAIL, IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("여러 계정을 번갈아 실패해도 IP 임계치에 닿으면 그 IP 를 잠근다")
+    void recordFailure_locksIpAcrossEmails() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure("user" + i + "@test.com", IP);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> tracker.checkNotLocked("other@test.com", IP))
+                .isInstanceOf(LoginLockedException.class);
+        assertThatCode(() -> tracker.checkNotLocked("other@test.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("창이 지난 실패는 세지 않는다")
+    void recordFailure_expiredFailuresAreNotCounted() {
+        // given
+        tracker.recordFailure(EMAIL, IP);
+        tracker.recordFailure(EMAIL, IP);
+
+        // when
+        given(clock.millis()).willReturn(NOW + 60_000);
+        tracker.recordFailure(EMAIL, IP);
+
+        // then
+        assertThatCode(() -> tracker.checkNotLocked(EMAIL, IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("로그인에 성공하면 해당 이메일의 실패 기록을 지운다")
+    void recordSuccess_resetsEmailFailures() {
+        // given
+        tracker.recordFailure(EMAIL, IP);
+        tracker.recordFailure(EMAIL, IP);
+
+        // when
+        tracker.recordSuccess(EMAIL);
+        tracker.recordFailure(EMAIL, IP);
+
+        // then
+        assertThatCode(() -> tracker.checkNotLocked(EMAIL, IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("maxKeys 에 닿으면 새 키는 세지 않는다")
+    void recordFailure_ignoresNewKeysAtCapacity() {
+        // given
+        properties.setMaxKeys(1);
+        tracker.recordFailure(EMAIL, IP);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure("other@test.com", IP);
+        }
+
+        // then
+        assertThat(tracker.size()).isEqualTo(2);
+        assertThatCode(() -> tracker.checkNotLocked("other@test.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("잠금이 풀리고 실패 기록도 없는 키만 정리한다")
+    void evictIdle_removesOnlyIdleKeys() {
+        // given
+        tracker.recordFailure(EMAIL, IP);
+        given(clock.millis()).willReturn(NOW + 50_000);
+        tracker.recordFailure("other@test.com", "10.0.0.2");
+
+        // when
+        given(clock.millis()).willReturn(NOW + 60_000);
+        tracker.evictIdle();
+
+        // then
+        assertThat(tracker.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 실패를 세지 않는다")
+    void disabled_neverLocks() {
+        // given
+        properties.setEnabled(false);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            tracker.recordFailure(EMAIL, IP);
+        }
+
+        // then
+        assertThat(tracker.size()).isZero();
+        assertThatCode(() -> tracker.checkNotLocked(EMAIL, IP)).doesNotThrowAnyException();
+    }
+}
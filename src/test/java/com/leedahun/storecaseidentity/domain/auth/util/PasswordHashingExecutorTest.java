@@ -0,0 +1,91 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.leedahun.storecaseidentity.domain.auth.config.PasswordHashingProperties;
+import com.leedahun.storecaseidentity.domain.auth.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class PasswordHashingExecutorTest {
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeoutMillis(5_000);
+
+        passwordEncoder = mock(BCryptPasswordEncoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(passwordEncoder, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱 풀에서 matches 결과를 그대로 반환한다")
+    void matches_returnsEncoderResult() {
+        // given
+        given(passwordEncoder.matches("raw", "encoded")).willReturn(true);
+
+        // when & then
+        assertThat(passwordHashingExecutor.matches("raw", "encoded")).isTrue();
+        assertThat(meterRegistry.get("auth.password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("풀과 큐가 가득 차면 기다리지 않고 PasswordHashingUnavailableException 발생")
+    void matches_saturated_rejectsImmediately() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(passwordEncoder.matches(anyString(), anyString())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordHashingExecutor.matches("a", "b"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordHashingExecutor.matches("c", "d"));
+        waitUntilQueued();
+
+        // when & then
+        assertThatThrownBy(() -> passwordHashingExecutor.matches("e", "f"))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < 1) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("task was not queued");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+class VerificationEmailRendererTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2031-06-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private static VerificationEmailRenderer verificationEmailRenderer;
+    private static SpringTemplateEngine templateEngine;
+
+    @BeforeAll
+    static void setUp() {
+        verificationEmailRenderer = new VerificationEmailRenderer(CLOCK);
+
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+    }
+
+    private String renderWithThymeleaf(String email, String code, int expiresMinutes) {
+        Context context = new Context();
+        context.setVariable("brandName", "Store Case");
+        context.setVariable("email", email);
+        context.setVariable("code", code);
+        context.setVariable("expiresMinutes", expiresMinutes);
+        context.setVariable("year", 2031);
+        return templateEngine.process("email/verification", context);
+    }
+
+    @Test
+    @DisplayName("미리 렌더링한 결과는 Thymeleaf 로 매번 렌더링한 결과와 같다")
+    void render_sameAsThymeleaf() {
+        // when
+        String html = verificationEmailRenderer.render("user@test.com", "123456", 5);
+
+        // then
+        assertThat(html).isEqualTo(renderWithThymeleaf("user@test.com", "123456", 5));
+        assertThat(html).contains("123456", "user@test.com", "5분", "2031");
+    }
+
+    @Test
+    @DisplayName("변수 값은 th:text 와 동일하게 HTML escape 한다")
+    void render_escapesLikeThymeleaf() {
+        // given
+        String email = "<script>alert('x')</script>&\"@test.com";
+
+        // when
+        String html = verificationEmailRenderer.render(email, "12<34>", 15);
+
+        // then
+        assertThat(html).isEqualTo(renderWithThymeleaf(email, "12<34>", 15));
+        assertThat(html).doesNotContain("<script>");
+    }
+}
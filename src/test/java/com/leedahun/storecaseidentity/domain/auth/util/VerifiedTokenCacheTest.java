@@ -0,0 +1,136 @@
+package com.leedahun.storecaseidentity.domain.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.leedahun.storecaseidentity.domain.auth.dto.AccessTokenClaims;
+import com.leedahun.storecaseidentity.domain.auth.dto.LoginUser;
+import com.leedahun.storecaseidentity.domain.auth.exception.InvalidJwtTokenException;
+import com.leedahun.storecaseidentity.domain.auth.exception.JwtTokenExpiredException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final String TOKEN = "header.payload.signature";
+
+    private JwtUtil jwtUtil;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = mock(JwtUtil.class);
+        clock = mock(Clock.class);
+        given(clock.millis()).willReturn(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, clock, meterRegistry, 2);
+    }
+
+    private static AccessTokenClaims claims(long expiresAtMillis) {
+        return AccessTokenClaims.builder()
+                .loginUser(LoginUser.builder().id(1L).role("USER").build())
+                .tokenId("jti-1")
+                .sessionId("sid-1")
+                .expiresAtMillis(expiresAtMillis)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 요청하면 서명을 검증하지 않고 캐시된 사용자를 반환한다")
+    void verify_sameToken_hitsCache() {
+        // given
+        given(jwtUtil.verifyAccessToken(TOKEN)).willReturn(claims(NOW + 60_000));
+
+        // when
+        LoginUser first = verifiedTokenCache.verify(TOKEN);
+        LoginUser second = verifiedTokenCache.verify(TOKEN);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(jwtUtil, times(1)).verifyAccessToken(TOKEN);
+        assertThat(meterRegistry.get("auth.token.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.token.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰이 폐기되면 InvalidJwtTokenException 발생")
+    void verify_revokedAfterCaching_throws() {
+        // given
+        AccessTokenClaims claims = claims(NOW + 60_000);
+        given(jwtUtil.verifyAccessToken(TOKEN)).willReturn(claims);
+        verifiedTokenCache.verify(TOKEN);
+
+        // when
+        given(jwtUtil.isRevoked(claims)).willReturn(true);
+
+        // then
+        assertThatThrownBy(() -> verifiedTokenCache.verify(TOKEN)).isInstanceOf(InvalidJwtTokenException.class);
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("exp 가 지난 토큰은 캐시에서 빼고 다시 검증한다")
+    void verify_expiredEntry_verifiesAgain() {
+        // given
+        given(jwtUtil.verifyAccessToken(TOKEN))
+                .willReturn(claims(NOW + 1_000))
+                .willThrow(new JwtTokenExpiredException());
+        verifiedTokenCache.verify(TOKEN);
+
+        // when
+        given(clock.millis()).willReturn(NOW + 1_000);
+
+        // then
+        assertThatThrownBy(() -> verifiedTokenCache.verify(TOKEN)).isInstanceOf(JwtTokenExpiredException.class);
+        verify(jwtUtil, times(2)).verifyAccessToken(TOKEN);
+    }
+
+    @Test
+    @DisplayName("maxEntries 를 넘으면 새 토큰은 캐시하지 않는다")
+    void verify_full_doesNotCacheNewToken() {
+        // given
+        given(jwtUtil.verifyAccessToken("token-1")).willReturn(claims(NOW + 60_000));
+        given(jwtUtil.verifyAccessToken("token-2")).willReturn(claims(NOW + 60_000));
+        given(jwtUtil.verifyAccessToken("token-3")).willReturn(claims(NOW + 60_000));
+        verifiedTokenCache.verify("token-1");
+        verifiedTokenCache.verify("token-2");
+
+        // when
+        verifiedTokenCache.verify("token-3");
+        verifiedTokenCache.verify("token-3");
+
+        // then
+        assertThat(verifiedTokenCache.size()).isEqualTo(2);
+        verify(jwtUtil, times(2)).verifyAccessToken("token-3");
+    }
+
+    @Test
+    @DisplayName("가득 찼을 때 만료된 항목이 있으면 지우고 새 토큰을 캐시한다")
+    void verify_full_evictsExpiredFirst() {
+        // given
+        given(jwtUtil.verifyAccessToken("token-1")).willReturn(claims(NOW + 1_000));
+        given(jwtUtil.verifyAccessToken("token-2")).willReturn(claims(NOW + 60_000));
+        given(jwtUtil.verifyAccessToken("token-3")).willReturn(claims(NOW + 60_000));
+        verifiedTokenCache.verify("token-1");
+        verifiedTokenCache.verify("token-2");
+
+        // when
+        given(clock.millis()).willReturn(NOW + 1_000);
+        verifiedTokenCache.verify("token-3");
+        verifiedTokenCache.verify("token-3");
+
+        // then
+        assertThat(verifiedTokenCache.size()).isEqualTo(2);
+        verify(jwtUtil, times(1)).verifyAccessToken("token-3");
+    }
+}